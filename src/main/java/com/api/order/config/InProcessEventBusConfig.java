@@ -0,0 +1,40 @@
+package com.api.order.config;
+
+import com.api.order.core.usecase.HandleOrderEvents;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.StockReservedEvent;
+import com.api.order.infra.gateway.bus.InProcessEventBus;
+import com.api.order.infra.gateway.bus.LocalEventHandler;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Slf4j
+@Configuration
+@Profile(InProcessEventBus.PROFILE)
+public class InProcessEventBusConfig {
+
+  @Bean
+  public LocalEventHandler<StockReservedEvent> stockReservedEventHandler(
+      final HandleOrderEvents handleOrderEvents) {
+    return LocalEventHandler.of(
+        StockReservedEvent.class,
+        handleOrderEvents::handleStockReservedEvent,
+        events -> logRejected(events, handleOrderEvents.handleStockReservedEvents(events)));
+  }
+
+  @Bean
+  public LocalEventHandler<PaymentProcessedEvent> paymentProcessedEventHandler(
+      final HandleOrderEvents handleOrderEvents) {
+    return LocalEventHandler.of(
+        PaymentProcessedEvent.class,
+        handleOrderEvents::handlePaymentProcessedEvent,
+        events -> logRejected(events, handleOrderEvents.handlePaymentProcessedEvents(events)));
+  }
+
+  private static void logRejected(final List<?> events, final List<Integer> rejected) {
+    rejected.forEach(index -> log.warn("Dropping {}: order not found", events.get(index)));
+  }
+}
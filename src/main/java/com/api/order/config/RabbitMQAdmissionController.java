@@ -0,0 +1,175 @@
+package com.api.order.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.rabbit.admission.enabled", havingValue = "true")
+public class RabbitMQAdmissionController {
+
+  static final String CONNECTION_ACQUIRE_METRIC = "hikaricp.connections.acquire";
+
+  // Replies for one order must be handled in sequence, so only order-agnostic queues are scaled.
+  private static final Set<String> SCALABLE_QUEUES = Set.of(RabbitMQConfig.ORDER_RECEIVED_QUEUE);
+  // Reply queues keep their single consumer and are paused instead while the database is saturated.
+  private static final Set<String> REPLY_QUEUES =
+      Set.of(RabbitMQConfig.STOCK_RESERVED_QUEUE, RabbitMQConfig.PAYMENT_PROCESSED_QUEUE);
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyTargetNanos;
+  private final long acquireTargetNanos;
+  private final double backoffRatio;
+  private final RabbitListenerEndpointRegistry listenerRegistry;
+  private final MeterRegistry meterRegistry;
+  private final LongAdder latencyNanos = new LongAdder();
+  private final LongAdder calls = new LongAdder();
+  private final Set<SimpleMessageListenerContainer> pausedReplies = new HashSet<>();
+  private double acquireNanosSeen;
+  private long acquiresSeen;
+  private volatile int limit;
+
+  public RabbitMQAdmissionController(
+      @Value("${app.rabbit.admission.min-limit}") final int minLimit,
+      @Value("${app.rabbit.admission.max-limit}") final int maxLimit,
+      @Value("${app.rabbit.admission.latency-target}") final Duration latencyTarget,
+      @Value("${app.rabbit.admission.acquire-target}") final Duration acquireTarget,
+      @Value("${app.rabbit.admission.backoff-ratio}") final double backoffRatio,
+      final RabbitListenerEndpointRegistry listenerRegistry,
+      final MeterRegistry meterRegistry) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyTargetNanos = latencyTarget.toNanos();
+    this.acquireTargetNanos = acquireTarget.toNanos();
+    this.backoffRatio = backoffRatio;
+    this.listenerRegistry = listenerRegistry;
+    this.meterRegistry = meterRegistry;
+    this.limit = minLimit;
+
+    Gauge.builder("rabbit.listener.admission.limit", this, it -> it.limit)
+        .description("Consumers per listener container allowed by the adaptive admission limit")
+        .register(meterRegistry);
+  }
+
+  /** Times listener invocations only, so HTTP traffic does not move the consumer limit. */
+  @Around("@annotation(org.springframework.amqp.rabbit.annotation.RabbitListener)")
+  public Object recordLatency(final ProceedingJoinPoint joinPoint) throws Throwable {
+    final var start = System.nanoTime();
+    try {
+      return joinPoint.proceed();
+    } finally {
+      this.latencyNanos.add(System.nanoTime() - start);
+      this.calls.increment();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.rabbit.admission.interval}")
+  public void adjust() {
+    final var samples = this.calls.sumThenReset();
+    final var totalNanos = this.latencyNanos.sumThenReset();
+    final var averageNanos = samples == 0 ? 0 : totalNanos / samples;
+    final var acquireNanos = averageAcquireNanos();
+    final var next = nextLimit(samples, averageNanos, acquireNanos);
+    this.throttleReplies(overloaded(averageNanos, acquireNanos));
+
+    if (next != this.limit) {
+      log.info(
+          "Admission limit {} -> {} (listener latency={}us over {} calls, connection acquire={}us)",
+          this.limit,
+          next,
+          averageNanos / 1_000,
+          samples,
+          acquireNanos / 1_000);
+      this.limit = next;
+      this.apply(next);
+    }
+  }
+
+  public int limit() {
+    return this.limit;
+  }
+
+  int nextLimit(final long samples, final long averageNanos, final long acquireNanos) {
+    if (overloaded(averageNanos, acquireNanos)) {
+      return Math.max(minLimit, (int) (this.limit * backoffRatio));
+    }
+
+    return samples == 0 ? this.limit : Math.min(maxLimit, this.limit + 1);
+  }
+
+  private boolean overloaded(final long averageNanos, final long acquireNanos) {
+    return acquireNanos > acquireTargetNanos || averageNanos > latencyTargetNanos;
+  }
+
+  /**
+   * Stops the running reply containers for an overloaded interval and restarts them once an
+   * interval is healthy again. Stopping requeues their prefetched deliveries, so the per-order
+   * sequence is kept. Containers of other consumer modes are never started here.
+   */
+  private void throttleReplies(final boolean overloaded) {
+    if (overloaded) {
+      for (final var container : listenerRegistry.getListenerContainers()) {
+        if (container instanceof SimpleMessageListenerContainer simpleContainer
+            && simpleContainer.isRunning()
+            && REPLY_QUEUES.containsAll(Arrays.asList(simpleContainer.getQueueNames()))
+            && this.pausedReplies.add(simpleContainer)) {
+          log.info(
+              "Pausing reply consumers for {}", Arrays.toString(simpleContainer.getQueueNames()));
+          simpleContainer.stop();
+        }
+      }
+    } else if (!this.pausedReplies.isEmpty()) {
+      log.info("Resuming {} reply containers", this.pausedReplies.size());
+      this.pausedReplies.forEach(SimpleMessageListenerContainer::start);
+      this.pausedReplies.clear();
+    }
+  }
+
+  /**
+   * Only the consumer count follows the limit. Prefetch stays at the container's configured value,
+   * since a running consumer keeps the prefetch it started with.
+   */
+  private void apply(final int consumers) {
+    for (final var container : listenerRegistry.getListenerContainers()) {
+      if (container instanceof SimpleMessageListenerContainer simpleContainer
+          && SCALABLE_QUEUES.containsAll(Arrays.asList(simpleContainer.getQueueNames()))) {
+        simpleContainer.setConcurrentConsumers(consumers);
+      }
+    }
+  }
+
+  private long averageAcquireNanos() {
+    double totalNanos = 0;
+    long count = 0;
+    for (final Timer timer : meterRegistry.find(CONNECTION_ACQUIRE_METRIC).timers()) {
+      totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+      count += timer.count();
+    }
+
+    final var windowNanos = totalNanos - this.acquireNanosSeen;
+    final var windowCount = count - this.acquiresSeen;
+    this.acquireNanosSeen = totalNanos;
+    this.acquiresSeen = count;
+
+    return windowCount <= 0 ? 0 : (long) (windowNanos / windowCount);
+  }
+}
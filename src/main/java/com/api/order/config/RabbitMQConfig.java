@@ -3,7 +3,9 @@ package com.api.order.config;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -18,6 +20,12 @@ public class RabbitMQConfig {
   public static final String STOCK_RESERVED_QUEUE = "stock-reserved";
   public static final String PAYMENT_PROCESSED_QUEUE = "payment-processed";
   public static final String ORDER_RECEIVED_QUEUE = "order-received";
+  public static final String RETRY_EXCHANGE = "order.retry";
+  public static final String PARKING_QUEUE = "order.parking";
+  public static final String UNPARTITIONED = "'${app.rabbit.consumer.mode}' != 'partitioned'";
+  public static final String SINGLE_CONSUMER_MODE = "#{'${app.rabbit.consumer.mode}' == 'single'}";
+  public static final String SINGLE_INGESTION_MODE =
+      "#{'${app.rabbit.ingestion.mode}' == 'single'}";
 
   @Bean
   public TopicExchange orderExchange() {
@@ -45,18 +53,25 @@ public class RabbitMQConfig {
   }
 
   @Bean
+  @ConditionalOnExpression(UNPARTITIONED)
   public Queue stockReservedQueue() {
-    return new Queue(STOCK_RESERVED_QUEUE, true);
+    return consumedQueue(STOCK_RESERVED_QUEUE);
   }
 
   @Bean
+  @ConditionalOnExpression(UNPARTITIONED)
   public Queue paymentProcessedQueue() {
-    return new Queue(PAYMENT_PROCESSED_QUEUE, true);
+    return consumedQueue(PAYMENT_PROCESSED_QUEUE);
   }
 
   @Bean
   public Queue orderReceivedQueue() {
-    return new Queue(ORDER_RECEIVED_QUEUE, true);
+    return consumedQueue(ORDER_RECEIVED_QUEUE);
+  }
+
+  @Bean
+  public Queue parkingQueue() {
+    return QueueBuilder.durable(PARKING_QUEUE).build();
   }
 
   @Bean
@@ -80,11 +95,13 @@ public class RabbitMQConfig {
   }
 
   @Bean
+  @ConditionalOnExpression(UNPARTITIONED)
   public Binding stockReservedBinding(Queue stockReservedQueue, TopicExchange orderExchange) {
     return BindingBuilder.bind(stockReservedQueue).to(orderExchange).with(STOCK_RESERVED_QUEUE);
   }
 
   @Bean
+  @ConditionalOnExpression(UNPARTITIONED)
   public Binding paymentProcessedBinding(Queue paymentProcessedQueue, TopicExchange orderExchange) {
     return BindingBuilder.bind(paymentProcessedQueue)
         .to(orderExchange)
@@ -95,4 +112,11 @@ public class RabbitMQConfig {
   public Binding orderReceivedBinding(Queue orderReceivedQueue, TopicExchange orderExchange) {
     return BindingBuilder.bind(orderReceivedQueue).to(orderExchange).with(ORDER_RECEIVED_QUEUE);
   }
+
+  public static Queue consumedQueue(final String name) {
+    return QueueBuilder.durable(name)
+        .deadLetterExchange("")
+        .deadLetterRoutingKey(PARKING_QUEUE)
+        .build();
+  }
 }
@@ -0,0 +1,37 @@
+package com.api.order.config;
+
+import java.time.Duration;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.rabbit.ingestion.mode", havingValue = "batch")
+public class RabbitMQIngestionConfig {
+
+  public static final String INGESTION_LISTENER_CONTAINER_FACTORY =
+      "ingestionListenerContainerFactory";
+
+  @Bean(name = INGESTION_LISTENER_CONTAINER_FACTORY)
+  public SimpleRabbitListenerContainerFactory ingestionListenerContainerFactory(
+      final SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      final ConnectionFactory connectionFactory,
+      @Value("${app.rabbit.ingestion.batch.size}") final int batchSize,
+      @Value("${app.rabbit.ingestion.batch.receive-timeout}") final Duration receiveTimeout) {
+    final var factory = new SimpleRabbitListenerContainerFactory();
+    configurer.configure(factory, connectionFactory);
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(batchSize);
+    factory.setPrefetchCount(batchSize);
+    factory.setReceiveTimeout(receiveTimeout.toMillis());
+    factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+    factory.setAdviceChain();
+    return factory;
+  }
+}
@@ -0,0 +1,30 @@
+package com.api.order.config;
+
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.rabbit.consumer.mode", havingValue = "mailbox")
+public class RabbitMQMailboxConsumerConfig {
+
+  public static final String MAILBOX_LISTENER_CONTAINER_FACTORY = "mailboxListenerContainerFactory";
+
+  @Bean(name = MAILBOX_LISTENER_CONTAINER_FACTORY)
+  public SimpleRabbitListenerContainerFactory mailboxListenerContainerFactory(
+      final SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      final ConnectionFactory connectionFactory,
+      @Value("${app.rabbit.consumer.mailbox.capacity}") final int capacity) {
+    final var factory = new SimpleRabbitListenerContainerFactory();
+    configurer.configure(factory, connectionFactory);
+    factory.setPrefetchCount(capacity);
+    factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+    factory.setAdviceChain();
+    return factory;
+  }
+}
@@ -1,8 +1,10 @@
 package com.api.order.config;
 
+import com.api.order.infra.gateway.queue.codec.EventMessageConverter;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,15 +12,16 @@ import org.springframework.context.annotation.Configuration;
 public class RabbitMQMessageConfig {
 
   @Bean
-  public Jackson2JsonMessageConverter jsonMessageConverter() {
-    return new Jackson2JsonMessageConverter();
+  public EventMessageConverter eventMessageConverter(
+      @Value("${app.rabbit.codec}") final String codec) {
+    return new EventMessageConverter(new Jackson2JsonMessageConverter(), "binary".equals(codec));
   }
 
   @Bean
   public RabbitTemplate rabbitTemplate(
-      ConnectionFactory connectionFactory, Jackson2JsonMessageConverter jsonMessageConverter) {
+      ConnectionFactory connectionFactory, EventMessageConverter eventMessageConverter) {
     RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-    rabbitTemplate.setMessageConverter(jsonMessageConverter);
+    rabbitTemplate.setMessageConverter(eventMessageConverter);
     return rabbitTemplate;
   }
 }
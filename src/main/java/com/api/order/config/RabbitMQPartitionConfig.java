@@ -0,0 +1,93 @@
+package com.api.order.config;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.CustomExchange;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.DirectRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.DirectRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.rabbit.consumer.mode", havingValue = "partitioned")
+public class RabbitMQPartitionConfig {
+
+  public static final String PARTITIONED_LISTENER_CONTAINER_FACTORY =
+      "partitionedListenerContainerFactory";
+  public static final String PARTITION_HASH_HEADER = "orderId";
+  public static final String STOCK_RESERVED_PARTITIONS =
+      "#{T(com.api.order.config.RabbitMQPartitionConfig).queues('"
+          + RabbitMQConfig.STOCK_RESERVED_QUEUE
+          + "', ${app.rabbit.partitions})}";
+  public static final String PAYMENT_PROCESSED_PARTITIONS =
+      "#{T(com.api.order.config.RabbitMQPartitionConfig).queues('"
+          + RabbitMQConfig.PAYMENT_PROCESSED_QUEUE
+          + "', ${app.rabbit.partitions})}";
+
+  private static final String CONSISTENT_HASH_EXCHANGE = "x-consistent-hash";
+  private static final String PARTITION_WEIGHT = "1";
+
+  @Bean
+  public Declarables stockReservedPartitions(
+      final TopicExchange orderExchange, @Value("${app.rabbit.partitions}") final int partitions) {
+    return partitions(orderExchange, RabbitMQConfig.STOCK_RESERVED_QUEUE, partitions);
+  }
+
+  @Bean
+  public Declarables paymentProcessedPartitions(
+      final TopicExchange orderExchange, @Value("${app.rabbit.partitions}") final int partitions) {
+    return partitions(orderExchange, RabbitMQConfig.PAYMENT_PROCESSED_QUEUE, partitions);
+  }
+
+  @Bean(name = PARTITIONED_LISTENER_CONTAINER_FACTORY)
+  public DirectRabbitListenerContainerFactory partitionedListenerContainerFactory(
+      final DirectRabbitListenerContainerFactoryConfigurer configurer,
+      final ConnectionFactory connectionFactory) {
+    final var factory = new DirectRabbitListenerContainerFactory();
+    configurer.configure(factory, connectionFactory);
+    factory.setConsumersPerQueue(1);
+    return factory;
+  }
+
+  public static String[] queues(final String queue, final int partitions) {
+    return IntStream.range(0, partitions)
+        .mapToObj(partition -> queue + "." + partition)
+        .toArray(String[]::new);
+  }
+
+  static Declarables partitions(
+      final TopicExchange orderExchange, final String queue, final int partitions) {
+    final var exchange =
+        new CustomExchange(
+            queue + ".partitions",
+            CONSISTENT_HASH_EXCHANGE,
+            true,
+            false,
+            Map.of("hash-header", PARTITION_HASH_HEADER));
+    final var declarables = new ArrayList<Declarable>();
+    declarables.add(exchange);
+    declarables.add(BindingBuilder.bind(exchange).to(orderExchange).with(queue));
+
+    for (final var name : queues(queue, partitions)) {
+      final var partition =
+          QueueBuilder.durable(name)
+              .singleActiveConsumer()
+              .deadLetterExchange("")
+              .deadLetterRoutingKey(RabbitMQConfig.PARKING_QUEUE)
+              .build();
+      declarables.add(partition);
+      declarables.add(BindingBuilder.bind(partition).to(exchange).with(PARTITION_WEIGHT).noargs());
+    }
+
+    return new Declarables(declarables);
+  }
+}
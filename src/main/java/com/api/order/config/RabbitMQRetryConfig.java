@@ -0,0 +1,45 @@
+package com.api.order.config;
+
+import com.api.order.infra.gateway.queue.DelayedRetryRecoverer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.HeadersExchange;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQRetryConfig {
+
+  @Bean
+  public Declarables retryTiers(@Value("${app.rabbit.retry.delays}") final List<Duration> delays) {
+    return tiers(delays.size());
+  }
+
+  static Declarables tiers(final int count) {
+    final var exchange = new HeadersExchange(RabbitMQConfig.RETRY_EXCHANGE);
+    final var declarables = new ArrayList<Declarable>();
+    declarables.add(exchange);
+
+    for (int tier = 0; tier < count; tier++) {
+      final var queue =
+          QueueBuilder.durable(RabbitMQConfig.RETRY_EXCHANGE + "." + tier)
+              .deadLetterExchange(RabbitMQConfig.EXCHANGE_NAME)
+              .build();
+      declarables.add(queue);
+      declarables.add(
+          BindingBuilder.bind(queue)
+              .to(exchange)
+              .whereAll(Map.of(DelayedRetryRecoverer.TIER_HEADER, String.valueOf(tier)))
+              .match());
+    }
+
+    return new Declarables(declarables);
+  }
+}
@@ -0,0 +1,91 @@
+package com.api.order.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(
+    name = "app.threads.pinning-diagnostics.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int MAX_FRAMES = 12;
+
+  private final Duration threshold;
+  private final Counter pinnedCounter;
+  private RecordingStream recordingStream;
+
+  public VirtualThreadPinningMonitor(
+      @Value("${app.threads.pinning-diagnostics.threshold}") final Duration threshold,
+      final MeterRegistry meterRegistry) {
+    this.threshold = threshold;
+    this.pinnedCounter =
+        Counter.builder("jvm.threads.virtual.pinned")
+            .description("Virtual threads pinned to their carrier longer than the threshold")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public void start() {
+    this.recordingStream = new RecordingStream();
+    this.recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    this.recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+    this.recordingStream.startAsync();
+    log.info("Virtual thread pinning diagnostics enabled with threshold={}", threshold);
+  }
+
+  @Override
+  public void stop() {
+    if (this.recordingStream != null) {
+      this.recordingStream.close();
+      this.recordingStream = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return this.recordingStream != null;
+  }
+
+  private void onPinned(final RecordedEvent event) {
+    this.pinnedCounter.increment();
+
+    final var stackTrace =
+        event.getStackTrace() == null
+            ? "<no stack trace>"
+            : event.getStackTrace().getFrames().stream()
+                .limit(MAX_FRAMES)
+                .map(VirtualThreadPinningMonitor::formatFrame)
+                .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+
+    log.warn(
+        "Virtual thread {} pinned its carrier for {} ms\n{}",
+        event.getThread() == null ? "<unknown>" : event.getThread().getJavaName(),
+        event.getDuration().toMillis(),
+        stackTrace);
+  }
+
+  private static String formatFrame(final RecordedFrame frame) {
+    return frame.getMethod().getType().getName()
+        + "."
+        + frame.getMethod().getName()
+        + ":"
+        + frame.getLineNumber();
+  }
+}
@@ -0,0 +1,48 @@
+package com.api.order.config;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class WebClientConfig {
+
+  private static final String PRODUCT_API_POOL_NAME = "product-api";
+
+  @Bean
+  public WebClient productApiWebClient(
+      final WebClient.Builder webClientBuilder,
+      @Value("${app.product-api.base-url}") final String baseUrl,
+      @Value("${app.product-api.client.max-connections}") final int maxConnections,
+      @Value("${app.product-api.client.pending-acquire-timeout}")
+          final Duration pendingAcquireTimeout,
+      @Value("${app.product-api.client.max-idle-time}") final Duration maxIdleTime,
+      @Value("${app.product-api.client.connect-timeout}") final Duration connectTimeout,
+      @Value("${app.product-api.client.response-timeout}") final Duration responseTimeout) {
+    final var connectionProvider =
+        ConnectionProvider.builder(PRODUCT_API_POOL_NAME)
+            .maxConnections(maxConnections)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .maxIdleTime(maxIdleTime)
+            .evictInBackground(maxIdleTime)
+            .build();
+
+    final var httpClient =
+        HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .keepAlive(true)
+            .responseTimeout(responseTimeout);
+
+    return webClientBuilder
+        .baseUrl(baseUrl)
+        .clientConnector(new ReactorClientHttpConnector(httpClient))
+        .build();
+  }
+}
@@ -36,6 +36,7 @@ public class Order {
   private PaymentDetails paymentDetails;
   private BigDecimal totalAmount;
   private boolean stockReserved;
+  private Long version;
 
   public Order() {}
 
@@ -48,6 +49,28 @@ public class Order {
       final PaymentDetails paymentDetails,
       final BigDecimal totalAmount,
       final boolean stockReserved) {
+    this(
+        id,
+        productSku,
+        productQuantity,
+        clientCpf,
+        status,
+        paymentDetails,
+        totalAmount,
+        stockReserved,
+        null);
+  }
+
+  public Order(
+      final String id,
+      final String productSku,
+      final Integer productQuantity,
+      final String clientCpf,
+      final OrderStatus status,
+      final PaymentDetails paymentDetails,
+      final BigDecimal totalAmount,
+      final boolean stockReserved,
+      final Long version) {
 
     validateDomain(productSku, productQuantity, clientCpf, totalAmount);
 
@@ -59,6 +82,7 @@ public class Order {
     this.paymentDetails = paymentDetails;
     this.totalAmount = totalAmount;
     this.stockReserved = stockReserved;
+    this.version = version;
   }
 
   public static Order createOrder(
@@ -115,6 +139,10 @@ public class Order {
     return stockReserved;
   }
 
+  public Long getVersion() {
+    return version;
+  }
+
   public Order setStockReserved(boolean stockReserved) {
     return toBuilder().stockReserved(stockReserved).build();
   }
@@ -127,6 +155,19 @@ public class Order {
     return toBuilder().paymentDetails(paymentDetails.changePaymentStatus(paymentStatus)).build();
   }
 
+  public Order moveTo(final int state) {
+    final var paymentStatus = OrderStateMachine.paymentStatus(state);
+
+    return toBuilder()
+        .status(OrderStateMachine.orderStatus(state))
+        .stockReserved(OrderStateMachine.stockReserved(state))
+        .paymentDetails(
+            paymentStatus == paymentDetails.getStatus()
+                ? paymentDetails
+                : paymentDetails.changePaymentStatus(paymentStatus))
+        .build();
+  }
+
   private static void validateDomain(
       final String productSku,
       final Integer productQuantity,
@@ -0,0 +1,127 @@
+package com.api.order.core.domain;
+
+import static java.lang.String.format;
+
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class OrderStateMachine {
+
+  public enum Trigger {
+    STOCK_RESERVED,
+    STOCK_UNAVAILABLE,
+    PAYMENT_APPROVED,
+    PAYMENT_REJECTED
+  }
+
+  public static final int REFUND_PAYMENT = 1 << 5;
+  public static final int RELEASE_STOCK = 1 << 6;
+
+  private static final String PACKING_OVERFLOW_MESSAGE =
+      "%s has %s constants but the state table packs at most %s";
+
+  private static final int STATE_MASK = 0x1F;
+  private static final int PAYMENT_SHIFT = 2;
+  private static final int STOCK_RESERVED_BIT = 1 << 4;
+  private static final int TRIGGER_BITS = 2;
+  private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+  private static final PaymentStatus[] PAYMENT_STATUSES = PaymentStatus.values();
+  private static final Trigger[] TRIGGERS = Trigger.values();
+  private static final byte[] TABLE = buildTable();
+
+  public static int state(final Order order) {
+    return state(order.getStatus(), order.getPaymentDetails().getStatus(), order.isStockReserved());
+  }
+
+  public static int state(
+      final OrderStatus status, final PaymentStatus paymentStatus, final boolean stockReserved) {
+    return status.ordinal()
+        | paymentStatus.ordinal() << PAYMENT_SHIFT
+        | (stockReserved ? STOCK_RESERVED_BIT : 0);
+  }
+
+  public static int next(final int state, final Trigger trigger) {
+    return TABLE[state << TRIGGER_BITS | trigger.ordinal()];
+  }
+
+  public static int target(final int entry) {
+    return entry & STATE_MASK;
+  }
+
+  public static boolean isNoop(final int state, final int entry) {
+    return entry == state;
+  }
+
+  public static boolean emits(final int entry, final int compensation) {
+    return (entry & compensation) != 0;
+  }
+
+  public static OrderStatus orderStatus(final int state) {
+    return ORDER_STATUSES[state & 0x3];
+  }
+
+  public static PaymentStatus paymentStatus(final int state) {
+    return PAYMENT_STATUSES[state >> PAYMENT_SHIFT & 0x3];
+  }
+
+  public static boolean stockReserved(final int state) {
+    return (state & STOCK_RESERVED_BIT) != 0;
+  }
+
+  private static byte[] buildTable() {
+    checkFits(OrderStatus.class.getSimpleName(), ORDER_STATUSES.length, 1 << PAYMENT_SHIFT);
+    checkFits(PaymentStatus.class.getSimpleName(), PAYMENT_STATUSES.length, 1 << PAYMENT_SHIFT);
+    checkFits(Trigger.class.getSimpleName(), TRIGGERS.length, 1 << TRIGGER_BITS);
+
+    final var table = new byte[(STATE_MASK + 1) << TRIGGER_BITS];
+    for (int state = 0; state <= STATE_MASK; state++) {
+      for (final var trigger : TRIGGERS) {
+        table[state << TRIGGER_BITS | trigger.ordinal()] = (byte) rule(state, trigger);
+      }
+    }
+
+    return table;
+  }
+
+  private static void checkFits(final String type, final int constants, final int capacity) {
+    if (constants > capacity) {
+      throw new IllegalStateException(format(PACKING_OVERFLOW_MESSAGE, type, constants, capacity));
+    }
+  }
+
+  private static int rule(final int state, final Trigger trigger) {
+    final var status = orderStatus(state);
+    final var payment = paymentStatus(state);
+    final var stock = stockReserved(state);
+
+    if (status == OrderStatus.CLOSED_WITHOUT_STOCK
+        && (trigger == Trigger.PAYMENT_APPROVED || trigger == Trigger.PAYMENT_REJECTED)) {
+      return payment == PaymentStatus.REFUNDED
+          ? state
+          : state(status, PaymentStatus.REFUNDED, stock) | REFUND_PAYMENT;
+    }
+    if (status != OrderStatus.OPEN) {
+      return state;
+    }
+
+    return switch (trigger) {
+      case STOCK_UNAVAILABLE ->
+          state(OrderStatus.CLOSED_WITHOUT_STOCK, payment, stock)
+              | (payment == PaymentStatus.APPROVED || payment == PaymentStatus.PENDING
+                  ? REFUND_PAYMENT
+                  : 0);
+      case STOCK_RESERVED -> closeIfCompleted(payment, true);
+      case PAYMENT_REJECTED ->
+          state(OrderStatus.CLOSED_WITHOUT_CREDIT, PaymentStatus.REJECTED, stock) | RELEASE_STOCK;
+      case PAYMENT_APPROVED -> closeIfCompleted(PaymentStatus.APPROVED, stock);
+    };
+  }
+
+  private static int closeIfCompleted(final PaymentStatus payment, final boolean stock) {
+    final var completed = stock && payment == PaymentStatus.APPROVED;
+
+    return state(completed ? OrderStatus.CLOSED_WITH_SUCCESS : OrderStatus.OPEN, payment, stock);
+  }
+}
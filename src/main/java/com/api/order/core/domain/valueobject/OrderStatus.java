@@ -4,6 +4,7 @@ import static java.lang.String.format;
 
 import com.api.order.core.domain.exception.DomainException;
 import java.util.Arrays;
+import java.util.List;
 
 public enum OrderStatus {
   OPEN,
@@ -11,6 +12,18 @@ public enum OrderStatus {
   CLOSED_WITHOUT_STOCK,
   CLOSED_WITHOUT_CREDIT;
 
+  public boolean isClosed() {
+    return this != OPEN;
+  }
+
+  public boolean canTransitionTo(final OrderStatus target) {
+    return this == OPEN && target.isClosed();
+  }
+
+  public static List<OrderStatus> sourcesOf(final OrderStatus target) {
+    return Arrays.stream(values()).filter(it -> it.canTransitionTo(target)).toList();
+  }
+
   public static OrderStatus fromName(final String status) {
     return Arrays.stream(values())
         .filter(it -> it.name().equalsIgnoreCase(status))
@@ -4,6 +4,7 @@ import static java.lang.String.format;
 
 import com.api.order.core.domain.exception.DomainException;
 import java.util.Arrays;
+import java.util.List;
 
 public enum PaymentStatus {
   PENDING,
@@ -11,6 +12,18 @@ public enum PaymentStatus {
   REJECTED,
   REFUNDED;
 
+  public boolean canTransitionTo(final PaymentStatus target) {
+    return switch (this) {
+      case PENDING -> target != PENDING;
+      case APPROVED -> target == REFUNDED;
+      case REJECTED, REFUNDED -> false;
+    };
+  }
+
+  public static List<PaymentStatus> sourcesOf(final PaymentStatus target) {
+    return Arrays.stream(values()).filter(it -> it.canTransitionTo(target)).toList();
+  }
+
   public static PaymentStatus fromName(final String status) {
     return Arrays.stream(values())
         .filter(it -> it.name().equalsIgnoreCase(status))
@@ -0,0 +1,18 @@
+package com.api.order.core.dto;
+
+import com.api.order.core.domain.Order;
+
+public record OrderBatchItemResult(int index, Order order, String errorMessage) {
+
+  public static OrderBatchItemResult created(final int index, final Order order) {
+    return new OrderBatchItemResult(index, order, null);
+  }
+
+  public static OrderBatchItemResult failed(final int index, final String errorMessage) {
+    return new OrderBatchItemResult(index, null, errorMessage);
+  }
+
+  public boolean isCreated() {
+    return order != null;
+  }
+}
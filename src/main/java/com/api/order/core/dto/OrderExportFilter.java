@@ -0,0 +1,8 @@
+package com.api.order.core.dto;
+
+import com.api.order.core.domain.valueobject.OrderStatus;
+import java.time.Instant;
+import lombok.Builder;
+
+@Builder
+public record OrderExportFilter(OrderStatus status, Instant createdFrom, Instant createdTo) {}
@@ -0,0 +1,7 @@
+package com.api.order.core.dto;
+
+import com.api.order.core.domain.valueobject.OrderStatus;
+import lombok.Builder;
+
+@Builder
+public record OrderFilter(OrderStatus status, String clientCpf, String productSku) {}
@@ -0,0 +1,6 @@
+package com.api.order.core.dto;
+
+import com.api.order.core.domain.Order;
+import java.util.List;
+
+public record OrderPage(List<Order> orders, String nextCursor) {}
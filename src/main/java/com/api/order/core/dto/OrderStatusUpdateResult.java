@@ -0,0 +1,11 @@
+package com.api.order.core.dto;
+
+public record OrderStatusUpdateResult(String id, Outcome outcome) {
+
+  public enum Outcome {
+    UPDATED,
+    UNCHANGED,
+    ILLEGAL_TRANSITION,
+    NOT_FOUND
+  }
+}
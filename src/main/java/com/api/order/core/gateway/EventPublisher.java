@@ -1,6 +1,13 @@
 package com.api.order.core.gateway;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface EventPublisher {
 
   void publish(final Object event);
+
+  void publishAll(final List<?> events);
+
+  CompletableFuture<Void> publishAsync(final Object event);
 }
@@ -0,0 +1,12 @@
+package com.api.order.core.gateway;
+
+import com.api.order.core.domain.Order;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderArchive {
+
+  void append(final List<Order> orders);
+
+  Optional<Order> findById(final String id);
+}
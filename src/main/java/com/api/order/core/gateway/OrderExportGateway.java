@@ -0,0 +1,9 @@
+package com.api.order.core.gateway;
+
+import com.api.order.core.dto.OrderExportFilter;
+import java.io.OutputStream;
+
+public interface OrderExportGateway {
+
+  long export(final OrderExportFilter filter, final OutputStream outputStream);
+}
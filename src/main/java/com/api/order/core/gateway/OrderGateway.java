@@ -1,15 +1,39 @@
 package com.api.order.core.gateway;
 
 import com.api.order.core.domain.Order;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.dto.OrderFilter;
+import com.api.order.core.dto.OrderStatusUpdateResult;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderGateway {
 
   Order save(final Order order);
 
+  List<Order> saveAll(final List<Order> orders);
+
   Optional<Order> findById(final String id);
 
-  Order update(final Order order);
+  List<Order> findPage(final OrderFilter filter, final String after, final int limit);
+
+  List<Order> findClosedBefore(final Instant createdBefore, final int limit);
+
+  List<Order> findAllForUpdate(final Collection<String> ids);
+
+  boolean transition(final Order current, final Order target);
+
+  List<OrderStatusUpdateResult> updateStatuses(
+      final List<String> ids, final OrderStatus orderStatus, final PaymentStatus paymentStatus);
+
+  void updateAll(final List<Order> orders);
+
+  boolean delete(final String id);
+
+  int purgeDeleted(final Instant deletedBefore, final int limit);
 
-  void delete(final String id);
+  int deleteAll(final List<Order> orders);
 }
@@ -1,8 +1,11 @@
 package com.api.order.core.gateway;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 public interface ProductApiGateway {
 
   BigDecimal getProductPrice(final String productSku);
+
+  CompletableFuture<BigDecimal> getProductPriceAsync(final String productSku);
 }
@@ -0,0 +1,50 @@
+package com.api.order.core.usecase;
+
+import com.api.order.core.gateway.OrderArchive;
+import com.api.order.core.gateway.OrderGateway;
+import java.time.Clock;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArchiveOrders {
+
+  @Value("${app.order.archive.older-than}")
+  private Duration olderThan;
+
+  @Value("${app.order.archive.batch-size}")
+  private int batchSize;
+
+  private final OrderGateway orderGateway;
+  private final OrderArchive orderArchive;
+  private final Clock clock;
+
+  public long execute() {
+    final var createdBefore = this.clock.instant().minus(olderThan);
+    long archived = 0;
+
+    while (true) {
+      final var orders = this.orderGateway.findClosedBefore(createdBefore, batchSize);
+      if (orders.isEmpty()) {
+        break;
+      }
+
+      this.orderArchive.append(orders);
+      this.orderGateway.deleteAll(orders);
+      archived += orders.size();
+
+      if (orders.size() < batchSize) {
+        break;
+      }
+    }
+
+    log.info("Archived {} orders closed and created before {}", archived, createdBefore);
+
+    return archived;
+  }
+}
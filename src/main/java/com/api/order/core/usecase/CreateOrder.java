@@ -13,6 +13,7 @@ import com.api.order.event.ProcessPaymentEvent;
 import com.api.order.event.ReserveStockEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
@@ -22,6 +23,7 @@ public class CreateOrder {
   private final ProductApiGateway productApiGateway;
   private final EventPublisher eventPublisher;
 
+  @Transactional
   public Order execute(final OrderDto request) {
     final var unitPrice = productApiGateway.getProductPrice(request.productSku());
     if (unitPrice == null) {
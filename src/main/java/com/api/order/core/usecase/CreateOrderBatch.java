@@ -0,0 +1,145 @@
+package com.api.order.core.usecase;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.exception.DomainException;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.dto.OrderBatchItemResult;
+import com.api.order.core.dto.OrderDto;
+import com.api.order.core.dto.PaymentDetailsDto;
+import com.api.order.core.gateway.EventPublisher;
+import com.api.order.core.gateway.OrderGateway;
+import com.api.order.core.gateway.ProductApiGateway;
+import com.api.order.core.usecase.exception.BatchSizeExceededException;
+import com.api.order.core.usecase.exception.BusinessException;
+import com.api.order.core.usecase.exception.ProductNotFoundException;
+import com.api.order.event.ProcessPaymentEvent;
+import com.api.order.event.ReserveStockEvent;
+import com.api.order.infra.gateway.exception.GatewayException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CreateOrderBatch {
+
+  private static final String PAYMENT_DETAILS_MISSING_MESSAGE =
+      "Field=[payment_details] should not be empty or null";
+
+  @Value("${app.order.batch.max-size}")
+  private int maxBatchSize;
+
+  private final OrderGateway orderGateway;
+  private final ProductApiGateway productApiGateway;
+  private final EventPublisher eventPublisher;
+
+  @Transactional
+  public List<OrderBatchItemResult> execute(final List<OrderDto> requests) {
+    if (requests.size() > maxBatchSize) {
+      throw new BatchSizeExceededException(requests.size(), maxBatchSize);
+    }
+
+    final var prices = resolvePrices(requests);
+    final var results = new OrderBatchItemResult[requests.size()];
+    final var indexes = new ArrayList<Integer>(requests.size());
+    final var orders = new ArrayList<Order>(requests.size());
+
+    for (int index = 0; index < requests.size(); index++) {
+      try {
+        orders.add(toOrder(requests.get(index), prices));
+        indexes.add(index);
+      } catch (DomainException | BusinessException | GatewayException e) {
+        log.warn("Rejecting batch item index={}: {}", index, e.getMessage());
+        results[index] = OrderBatchItemResult.failed(index, e.getMessage());
+      }
+    }
+
+    if (!orders.isEmpty()) {
+      final var savedOrders = this.orderGateway.saveAll(orders);
+      final var events = new ArrayList<>(savedOrders.size() * 2);
+
+      for (int i = 0; i < savedOrders.size(); i++) {
+        final var savedOrder = savedOrders.get(i);
+        results[indexes.get(i)] = OrderBatchItemResult.created(indexes.get(i), savedOrder);
+        events.add(
+            new ReserveStockEvent(
+                savedOrder.getId(), savedOrder.getProductSku(), savedOrder.getProductQuantity()));
+        events.add(
+            new ProcessPaymentEvent(
+                savedOrder.getId(),
+                savedOrder.getTotalAmount(),
+                savedOrder.getPaymentDetails().getCardNumber(),
+                savedOrder.getPaymentDetails().getPaymentMethod().name()));
+      }
+
+      this.eventPublisher.publishAll(events);
+    }
+
+    return List.of(results);
+  }
+
+  private Map<String, CompletableFuture<BigDecimal>> resolvePrices(final List<OrderDto> requests) {
+    final var prices = new LinkedHashMap<String, CompletableFuture<BigDecimal>>();
+
+    requests.stream()
+        .map(OrderDto::productSku)
+        .distinct()
+        .forEach(sku -> prices.put(sku, this.productApiGateway.getProductPriceAsync(sku)));
+
+    CompletableFuture.allOf(prices.values().toArray(CompletableFuture[]::new))
+        .exceptionally(e -> null)
+        .join();
+
+    return prices;
+  }
+
+  private Order toOrder(
+      final OrderDto request, final Map<String, CompletableFuture<BigDecimal>> prices) {
+    final var unitPrice = unitPrice(request.productSku(), prices.get(request.productSku()));
+
+    return Order.createOrder(
+        request.productSku(),
+        request.productQuantity(),
+        request.clientCpf(),
+        toPaymentDetails(request.paymentDetails()),
+        unitPrice);
+  }
+
+  private BigDecimal unitPrice(
+      final String productSku, final CompletableFuture<BigDecimal> priceFuture) {
+    try {
+      final var unitPrice = priceFuture.join();
+      if (unitPrice == null) {
+        throw new ProductNotFoundException(productSku);
+      }
+
+      return unitPrice;
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof GatewayException gatewayException) {
+        throw gatewayException;
+      }
+
+      throw new GatewayException(e.getCause().getMessage());
+    }
+  }
+
+  private PaymentDetails toPaymentDetails(final PaymentDetailsDto paymentDetailsDto) {
+    if (paymentDetailsDto == null) {
+      throw new DomainException(PAYMENT_DETAILS_MISSING_MESSAGE);
+    }
+
+    return PaymentDetails.createPaymentDetails(
+        PaymentMethod.fromName(paymentDetailsDto.paymentMethod()), paymentDetailsDto.cardNumber());
+  }
+}
@@ -1,6 +1,8 @@
 package com.api.order.core.usecase;
 
+import com.api.order.core.gateway.OrderArchive;
 import com.api.order.core.gateway.OrderGateway;
+import com.api.order.core.usecase.exception.OrderArchivedException;
 import com.api.order.core.usecase.exception.OrderNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -10,9 +12,20 @@ import org.springframework.stereotype.Component;
 public class DeleteOrder {
 
   private final OrderGateway orderGateway;
+  private final OrderArchive orderArchive;
 
+  /**
+   * Soft deletes a live order. Archived orders are still readable through {@link SearchOrder} but
+   * the archive is append-only, so deleting one is refused with {@link OrderArchivedException}.
+   */
   public void execute(final String id) {
-    this.orderGateway.findById(id).orElseThrow(() -> new OrderNotFoundException(id));
-    this.orderGateway.delete(id);
+    if (this.orderGateway.delete(id)) {
+      return;
+    }
+    if (this.orderArchive.findById(id).isPresent()) {
+      throw new OrderArchivedException(id);
+    }
+
+    throw new OrderNotFoundException(id);
   }
 }
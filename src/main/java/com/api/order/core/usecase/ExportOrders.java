@@ -0,0 +1,22 @@
+package com.api.order.core.usecase;
+
+import com.api.order.core.dto.OrderExportFilter;
+import com.api.order.core.gateway.OrderExportGateway;
+import java.io.OutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExportOrders {
+
+  private final OrderExportGateway orderExportGateway;
+
+  public void execute(final OrderExportFilter filter, final OutputStream outputStream) {
+    final var exported = this.orderExportGateway.export(filter, outputStream);
+
+    log.info("Exported {} orders for filter={}", exported, filter);
+  }
+}
@@ -1,19 +1,25 @@
 package com.api.order.core.usecase;
 
 import com.api.order.core.domain.Order;
-import com.api.order.core.domain.valueobject.OrderStatus;
-import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.dto.OrderTransition;
 import com.api.order.core.gateway.EventPublisher;
 import com.api.order.core.gateway.OrderGateway;
 import com.api.order.core.usecase.exception.OrderNotFoundException;
+import com.api.order.core.usecase.exception.OrderUpdateConflictException;
 import com.api.order.event.PaymentProcessedEvent;
-import com.api.order.event.RefundPaymentEvent;
-import com.api.order.event.ReleaseStockEvent;
 import com.api.order.event.StockReservedEvent;
-import com.api.order.infra.gateway.exception.GatewayException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,191 +28,123 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class HandleOrderEvents {
 
+  @Value("${app.order.transition.max-attempts}")
+  private int maxAttempts;
+
   private final OrderGateway orderGateway;
   private final EventPublisher eventPublisher;
 
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
   public void handleStockReservedEvent(final StockReservedEvent event) {
     log.info(
         "Processing StockReservedEvent for orderId: {}, success: {}",
         event.orderId(),
         event.success());
 
-    final var order =
-        this.orderGateway
-            .findById(event.orderId())
-            .orElseThrow(() -> new OrderNotFoundException(event.orderId()));
+    this.apply(event.orderId(), order -> OrderTransitions.onStockReserved(order, event));
+  }
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
+  public void handlePaymentProcessedEvent(final PaymentProcessedEvent event) {
     log.info(
-        "Order before update: id={}, stockReserved={}, paymentStatus={}, orderStatus={}",
-        order.getId(),
-        order.isStockReserved(),
-        order.getPaymentDetails().getStatus(),
-        order.getStatus());
-
-    if (order.getStatus() == OrderStatus.CLOSED_WITHOUT_CREDIT
-        || order.getStatus() == OrderStatus.CLOSED_WITHOUT_STOCK) {
-      log.info(
-          "Order id={} is already closed with status={}, skipping StockReservedEvent",
-          order.getId(),
-          order.getStatus());
-      return;
-    }
+        "Processing PaymentProcessedEvent for orderId: {}, success: {}",
+        event.orderId(),
+        event.success());
 
-    if (!event.success()) {
-      log.info("Stock reservation failed, checking payment status");
-      if (order.getPaymentDetails().getStatus() == PaymentStatus.APPROVED
-          || order.getPaymentDetails().getStatus() == PaymentStatus.PENDING) {
-        log.info(
-            "Issuing refund for orderId: {}, status: {}",
-            order.getId(),
-            order.getPaymentDetails().getStatus());
-        this.eventPublisher.publish(new RefundPaymentEvent(order.getId(), order.getTotalAmount()));
-      }
+    this.apply(event.orderId(), order -> OrderTransitions.onPaymentProcessed(order, event));
+  }
 
-      if (order.getStatus() != OrderStatus.CLOSED_WITHOUT_STOCK) {
-        final var orderUpdated = order.changeOrderStatus(OrderStatus.CLOSED_WITHOUT_STOCK);
-        log.info("Updating order to CLOSED_WITHOUT_STOCK: {}", orderUpdated.getStatus());
+  @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
+  public List<Integer> handleStockReservedEvents(final List<StockReservedEvent> events) {
+    log.info("Processing batch of {} StockReservedEvents", events.size());
 
-        this.orderGateway.update(orderUpdated);
-      }
-      return;
-    }
+    return this.applyAll(events, StockReservedEvent::orderId, OrderTransitions::onStockReserved);
+  }
 
-    final var refreshedOrder =
-        orderGateway
-            .findById(event.orderId())
-            .orElseThrow(() -> new OrderNotFoundException(event.orderId()));
+  @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
+  public List<Integer> handlePaymentProcessedEvents(final List<PaymentProcessedEvent> events) {
+    log.info("Processing batch of {} PaymentProcessedEvents", events.size());
 
-    if (refreshedOrder.isStockReserved()) {
-      log.info("Stock already reserved for orderId: {}, skipping update", refreshedOrder.getId());
-      updateOrderStatus(refreshedOrder);
-      return;
-    }
+    return this.applyAll(
+        events, PaymentProcessedEvent::orderId, OrderTransitions::onPaymentProcessed);
+  }
 
-    log.info("Stock reservation successful, setting stockReserved=true");
-    final var orderUpdated = order.setStockReserved(true);
-    log.info("Updating order to stockReserved=true: {}", orderUpdated.isStockReserved());
+  private <E> List<Integer> applyAll(
+      final List<E> events,
+      final Function<E, String> orderId,
+      final BiFunction<Order, E, Optional<OrderTransition>> decision) {
+    final var orders = new HashMap<String, Order>();
+    this.orderGateway
+        .findAllForUpdate(events.stream().map(orderId).distinct().toList())
+        .forEach(order -> orders.put(order.getId(), order));
+
+    final var changed = new LinkedHashMap<String, Order>();
+    final var published = new ArrayList<>();
+    final var rejected = new ArrayList<Integer>();
+
+    for (int index = 0; index < events.size(); index++) {
+      final var event = events.get(index);
+      final var order = orders.get(orderId.apply(event));
+      if (order == null) {
+        log.warn("Rejecting event index={}: order id={} not found", index, orderId.apply(event));
+        rejected.add(index);
+        continue;
+      }
 
-    this.orderGateway.update(orderUpdated);
+      final var transition = decision.apply(order, event);
+      if (transition.isPresent()) {
+        final var target = transition.get().order();
+        orders.put(target.getId(), target);
+        changed.put(target.getId(), target);
+        published.addAll(transition.get().events());
+      }
+    }
 
-    log.info("Order persisted with stockReserved=true and checking if order can be closed");
+    if (!changed.isEmpty()) {
+      this.orderGateway.updateAll(List.copyOf(changed.values()));
+      log.info("Applied transitions to {} orders in one batch", changed.size());
+    }
+    if (!published.isEmpty()) {
+      this.eventPublisher.publishAll(published);
+    }
 
-    this.updateOrderStatus(orderUpdated);
+    return rejected;
   }
 
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
-  public void handlePaymentProcessedEvent(final PaymentProcessedEvent event) {
-    log.info(
-        "Processing PaymentProcessedEvent for orderId: {}, success: {}",
-        event.orderId(),
-        event.success());
-
-    int retries = 3;
-    while (retries > 0) {
+  private void apply(
+      final String orderId, final Function<Order, Optional<OrderTransition>> decision) {
+    for (int attempt = 1; attempt <= maxAttempts; attempt++) {
       final var order =
           this.orderGateway
-              .findById(event.orderId())
-              .orElseThrow(() -> new OrderNotFoundException(event.orderId()));
-      log.info(
-          "Order before update: id={}, stockReserved={}, paymentStatus={}, orderStatus={}",
-          order.getId(),
-          order.isStockReserved(),
-          order.getPaymentDetails().getStatus(),
-          order.getStatus());
-
-      if (order.getStatus() == OrderStatus.CLOSED_WITHOUT_STOCK) {
-        log.info(
-            "Order is CLOSED_WITHOUT_STOCK, ensuring paymentStatus=REFUNDED for orderId: {}",
-            order.getId());
-
-        if (order.getPaymentDetails().getStatus() != PaymentStatus.REFUNDED) {
-          this.eventPublisher.publish(
-              new RefundPaymentEvent(order.getId(), order.getTotalAmount()));
-
-          final var orderUpdated = order.updatePaymentStatus(PaymentStatus.REFUNDED);
-          log.info("Updating order to paymentStatus=REFUNDED: {}", orderUpdated.getStatus());
-
-          this.orderGateway.update(orderUpdated);
-        }
-        return;
-      }
+              .findById(orderId)
+              .orElseThrow(() -> new OrderNotFoundException(orderId));
 
-      if (order.getStatus() == OrderStatus.OPEN && retries > 1) {
-        log.warn(
-            "Order id={} is still OPEN, retrying after delay (retries left: {})",
+      final var transition = decision.apply(order);
+      if (transition.isEmpty()) {
+        log.info(
+            "No transition for order id={}, status={}, stockReserved={}, paymentStatus={}",
             order.getId(),
-            retries - 1);
-        retries--;
-        try {
-          Thread.sleep(100);
-        } catch (InterruptedException ie) {
-          log.error("Interrupted during retry delay", ie);
-        }
-        continue;
+            order.getStatus(),
+            order.isStockReserved(),
+            order.getPaymentDetails().getStatus());
+        return;
       }
 
-      if (!event.success()) {
-        log.info("Payment failed, checking stock reservation");
-        log.info("Publishing ReleaseStockEvent for orderId: {}", order.getId());
-        this.eventPublisher.publish(
-            new ReleaseStockEvent(
-                order.getId(), order.getProductSku(), order.getProductQuantity()));
-
-        final var orderUpdated =
-            order
-                .changeOrderStatus(OrderStatus.CLOSED_WITHOUT_CREDIT)
-                .updatePaymentStatus(PaymentStatus.REJECTED);
+      final var target = transition.get().order();
+      if (this.orderGateway.transition(order, target)) {
         log.info(
-            "Updating order to CLOSED_WITHOUT_CREDIT: {} and payment REJECTED: {}",
-            orderUpdated.getStatus(),
-            orderUpdated.getPaymentDetails().getStatus());
-
-        this.orderGateway.update(orderUpdated);
+            "Order id={} moved to status={}, stockReserved={}, paymentStatus={}",
+            target.getId(),
+            target.getStatus(),
+            target.isStockReserved(),
+            target.getPaymentDetails().getStatus());
+        transition.get().events().forEach(this.eventPublisher::publish);
         return;
       }
 
-      log.info("Payment successful, setting paymentStatus=APPROVED");
-      final var orderUpdated = order.updatePaymentStatus(PaymentStatus.APPROVED);
-
-      log.info("Updating order to paymentStatus=APPROVED: {}", orderUpdated.getStatus());
-      this.orderGateway.update(orderUpdated);
-
-      log.info("Order persisted with paymentStatus=APPROVED and checking if order can be closed");
-
-      updateOrderStatus(orderUpdated);
-      return;
+      log.info("Concurrent update on order id={}, re-reading (attempt {})", orderId, attempt);
     }
 
-    log.error("Max retries reached for orderId: {}, order still OPEN", event.orderId());
-    throw new GatewayException(
-        "Failed to process PaymentProcessedEvent after retries: " + event.orderId());
-  }
-
-  private void updateOrderStatus(final Order order) {
-    log.info(
-        "Checking order status: id={}, stockReserved={}, paymentStatus={}, orderStatus={}",
-        order.getId(),
-        order.isStockReserved(),
-        order.getPaymentDetails().getStatus(),
-        order.getStatus());
-
-    if (order.isStockReserved()
-        && order.getPaymentDetails().getStatus() == PaymentStatus.APPROVED) {
-      final var orderUpdated = order.changeOrderStatus(OrderStatus.CLOSED_WITH_SUCCESS);
-
-      log.info(
-          "Closing order with success: id={}, status={}",
-          orderUpdated.getId(),
-          orderUpdated.getStatus());
-
-      this.orderGateway.update(orderUpdated);
-    } else {
-      log.warn(
-          "Order not closed: id={}, stockReserved={}, paymentStatus={}, orderStatus={}",
-          order.getId(),
-          order.isStockReserved(),
-          order.getPaymentDetails().getStatus(),
-          order.getStatus());
-    }
+    throw new OrderUpdateConflictException(orderId, maxAttempts);
   }
 }
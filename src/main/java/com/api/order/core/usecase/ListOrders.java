@@ -0,0 +1,34 @@
+package com.api.order.core.usecase;
+
+import com.api.order.core.dto.OrderFilter;
+import com.api.order.core.dto.OrderPage;
+import com.api.order.core.gateway.OrderGateway;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ListOrders {
+
+  @Value("${app.order.list.default-limit}")
+  private int defaultLimit;
+
+  @Value("${app.order.list.max-limit}")
+  private int maxLimit;
+
+  private final OrderGateway orderGateway;
+
+  public OrderPage execute(final OrderFilter filter, final String after, final Integer limit) {
+    final var pageSize = limit == null ? defaultLimit : Math.clamp(limit, 1, maxLimit);
+    final var orders = this.orderGateway.findPage(filter, after, pageSize + 1);
+
+    if (orders.size() <= pageSize) {
+      return new OrderPage(orders, null);
+    }
+
+    final var page = orders.subList(0, pageSize);
+
+    return new OrderPage(page, page.getLast().getId());
+  }
+}
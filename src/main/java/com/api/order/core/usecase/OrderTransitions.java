@@ -0,0 +1,49 @@
+package com.api.order.core.usecase;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.OrderStateMachine;
+import com.api.order.core.domain.OrderStateMachine.Trigger;
+import com.api.order.core.dto.OrderTransition;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.RefundPaymentEvent;
+import com.api.order.event.ReleaseStockEvent;
+import com.api.order.event.StockReservedEvent;
+import java.util.List;
+import java.util.Optional;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class OrderTransitions {
+
+  public static Optional<OrderTransition> onStockReserved(
+      final Order order, final StockReservedEvent event) {
+    return apply(order, event.success() ? Trigger.STOCK_RESERVED : Trigger.STOCK_UNAVAILABLE);
+  }
+
+  public static Optional<OrderTransition> onPaymentProcessed(
+      final Order order, final PaymentProcessedEvent event) {
+    return apply(order, event.success() ? Trigger.PAYMENT_APPROVED : Trigger.PAYMENT_REJECTED);
+  }
+
+  private static Optional<OrderTransition> apply(final Order order, final Trigger trigger) {
+    final var state = OrderStateMachine.state(order);
+    final var entry = OrderStateMachine.next(state, trigger);
+    if (OrderStateMachine.isNoop(state, entry)) {
+      return Optional.empty();
+    }
+
+    final var target = OrderStateMachine.target(entry);
+    final var refund = OrderStateMachine.emits(entry, OrderStateMachine.REFUND_PAYMENT);
+    final var release = OrderStateMachine.emits(entry, OrderStateMachine.RELEASE_STOCK);
+    final List<Object> events =
+        refund
+            ? List.of(new RefundPaymentEvent(order.getId(), order.getTotalAmount()))
+            : release
+                ? List.of(
+                    new ReleaseStockEvent(
+                        order.getId(), order.getProductSku(), order.getProductQuantity()))
+                : List.of();
+
+    return Optional.of(new OrderTransition(order.moveTo(target), events));
+  }
+}
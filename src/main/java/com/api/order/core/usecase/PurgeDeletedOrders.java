@@ -0,0 +1,42 @@
+package com.api.order.core.usecase;
+
+import com.api.order.core.gateway.OrderGateway;
+import java.time.Clock;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurgeDeletedOrders {
+
+  @Value("${app.order.purge.grace-period}")
+  private Duration gracePeriod;
+
+  @Value("${app.order.purge.batch-size}")
+  private int batchSize;
+
+  private final OrderGateway orderGateway;
+  private final Clock clock;
+
+  public long execute() {
+    final var deletedBefore = this.clock.instant().minus(gracePeriod);
+    long purged = 0;
+
+    while (true) {
+      final var count = this.orderGateway.purgeDeleted(deletedBefore, batchSize);
+      purged += count;
+
+      if (count < batchSize) {
+        break;
+      }
+    }
+
+    log.info("Purged {} orders deleted before {}", purged, deletedBefore);
+
+    return purged;
+  }
+}
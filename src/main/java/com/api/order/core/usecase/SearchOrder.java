@@ -1,6 +1,7 @@
 package com.api.order.core.usecase;
 
 import com.api.order.core.domain.Order;
+import com.api.order.core.gateway.OrderArchive;
 import com.api.order.core.gateway.OrderGateway;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -11,8 +12,9 @@ import org.springframework.stereotype.Component;
 public class SearchOrder {
 
   private final OrderGateway orderGateway;
+  private final OrderArchive orderArchive;
 
   public Optional<Order> execute(final String id) {
-    return this.orderGateway.findById(id);
+    return this.orderGateway.findById(id).or(() -> this.orderArchive.findById(id));
   }
 }
@@ -1,10 +1,15 @@
 package com.api.order.core.usecase;
 
+import static java.lang.String.format;
+
 import com.api.order.core.domain.Order;
 import com.api.order.core.domain.valueobject.OrderStatus;
 import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.dto.OrderStatusUpdateResult.Outcome;
 import com.api.order.core.gateway.OrderGateway;
+import com.api.order.core.usecase.exception.InvalidStatusUpdateException;
 import com.api.order.core.usecase.exception.OrderNotFoundException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -15,12 +20,22 @@ public class UpdateOrder {
   private final OrderGateway orderGateway;
 
   public Order execute(final String id, final String orderStatus, final String paymentStatus) {
-    final var existingOrder =
-        this.orderGateway.findById(id).orElseThrow(() -> new OrderNotFoundException(id));
+    final var result =
+        this.orderGateway
+            .updateStatuses(
+                List.of(id),
+                OrderStatus.fromName(orderStatus),
+                PaymentStatus.fromName(paymentStatus))
+            .getFirst();
 
-    existingOrder.changeOrderStatus(OrderStatus.fromName(orderStatus));
-    existingOrder.getPaymentDetails().changePaymentStatus(PaymentStatus.fromName(paymentStatus));
+    if (result.outcome() == Outcome.NOT_FOUND) {
+      throw new OrderNotFoundException(id);
+    }
+    if (result.outcome() == Outcome.ILLEGAL_TRANSITION) {
+      throw new InvalidStatusUpdateException(
+          format(InvalidStatusUpdateException.ILLEGAL_TRANSITION, id, orderStatus, paymentStatus));
+    }
 
-    return this.orderGateway.save(existingOrder);
+    return this.orderGateway.findById(id).orElseThrow(() -> new OrderNotFoundException(id));
   }
 }
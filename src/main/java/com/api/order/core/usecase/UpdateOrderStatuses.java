@@ -0,0 +1,99 @@
+package com.api.order.core.usecase;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.dto.OrderFilter;
+import com.api.order.core.dto.OrderStatusUpdateResult;
+import com.api.order.core.gateway.OrderGateway;
+import com.api.order.core.usecase.exception.BatchSizeExceededException;
+import com.api.order.core.usecase.exception.InvalidStatusUpdateException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpdateOrderStatuses {
+
+  @Value("${app.order.status-update.chunk-size}")
+  private int chunkSize;
+
+  @Value("${app.order.status-update.max-ids}")
+  private int maxIds;
+
+  private final OrderGateway orderGateway;
+
+  public List<OrderStatusUpdateResult> execute(
+      final List<String> ids,
+      final OrderFilter filter,
+      final OrderStatus orderStatus,
+      final PaymentStatus paymentStatus) {
+    if (orderStatus == null && paymentStatus == null) {
+      throw new InvalidStatusUpdateException(InvalidStatusUpdateException.MISSING_TARGET);
+    }
+    if ((ids == null || ids.isEmpty()) == (filter == null)) {
+      throw new InvalidStatusUpdateException(InvalidStatusUpdateException.MISSING_SELECTION);
+    }
+
+    final var results =
+        filter == null
+            ? updateIds(ids.stream().distinct().toList(), orderStatus, paymentStatus)
+            : updateMatching(filter, orderStatus, paymentStatus);
+
+    log.info(
+        "Bulk status update to orderStatus={}, paymentStatus={} touched {} orders",
+        orderStatus,
+        paymentStatus,
+        results.size());
+
+    return results;
+  }
+
+  private List<OrderStatusUpdateResult> updateIds(
+      final List<String> ids, final OrderStatus orderStatus, final PaymentStatus paymentStatus) {
+    if (ids.size() > maxIds) {
+      throw new BatchSizeExceededException(ids.size(), maxIds);
+    }
+
+    final var results = new ArrayList<OrderStatusUpdateResult>(ids.size());
+    for (int from = 0; from < ids.size(); from += chunkSize) {
+      final var chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+      results.addAll(this.orderGateway.updateStatuses(chunk, orderStatus, paymentStatus));
+    }
+
+    return results;
+  }
+
+  private List<OrderStatusUpdateResult> updateMatching(
+      final OrderFilter filter, final OrderStatus orderStatus, final PaymentStatus paymentStatus) {
+    final var ids = new ArrayList<String>();
+    String after = null;
+
+    // Seek one id past the limit so an oversized selection is refused before anything is written.
+    while (ids.size() <= maxIds) {
+      final var page =
+          this.orderGateway
+              .findPage(filter, after, Math.min(chunkSize, maxIds + 1 - ids.size()))
+              .stream()
+              .map(Order::getId)
+              .toList();
+      if (page.isEmpty()) {
+        break;
+      }
+
+      ids.addAll(page);
+      after = page.getLast();
+    }
+
+    if (ids.size() > maxIds) {
+      throw new BatchSizeExceededException(maxIds);
+    }
+
+    return updateIds(ids, orderStatus, paymentStatus);
+  }
+}
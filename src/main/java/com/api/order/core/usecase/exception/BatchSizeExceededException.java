@@ -0,0 +1,19 @@
+package com.api.order.core.usecase.exception;
+
+import static java.lang.String.format;
+
+public class BatchSizeExceededException extends BusinessException {
+
+  private static final String ERROR_CODE = "BATCH_SIZE_EXCEEDED";
+  private static final String MESSAGE = "Batch with size=[%s] exceeds the limit of [%s] orders.";
+  private static final String FILTER_MESSAGE =
+      "Filter matches more than the limit of [%s] orders, narrow it down.";
+
+  public BatchSizeExceededException(final int size, final int maxSize) {
+    super(format(MESSAGE, size, maxSize), ERROR_CODE);
+  }
+
+  public BatchSizeExceededException(final int maxSize) {
+    super(format(FILTER_MESSAGE, maxSize), ERROR_CODE);
+  }
+}
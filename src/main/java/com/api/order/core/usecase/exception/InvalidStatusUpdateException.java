@@ -0,0 +1,16 @@
+package com.api.order.core.usecase.exception;
+
+public class InvalidStatusUpdateException extends BusinessException {
+
+  public static final String MISSING_TARGET =
+      "At least one of order status or payment status must be informed.";
+  public static final String MISSING_SELECTION = "Either ids or a filter must be informed.";
+  public static final String ILLEGAL_TRANSITION =
+      "Order with id=[%s] cannot move to orderStatus=[%s], paymentStatus=[%s].";
+
+  private static final String ERROR_CODE = "INVALID_STATUS_UPDATE";
+
+  public InvalidStatusUpdateException(final String message) {
+    super(message, ERROR_CODE);
+  }
+}
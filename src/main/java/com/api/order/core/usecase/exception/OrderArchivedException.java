@@ -0,0 +1,14 @@
+package com.api.order.core.usecase.exception;
+
+import static java.lang.String.format;
+
+public class OrderArchivedException extends BusinessException {
+
+  private static final String ERROR_CODE = "GONE";
+  private static final String MESSAGE =
+      "Order with id=[%s] is archived and can no longer be deleted.";
+
+  public OrderArchivedException(final String id) {
+    super(format(MESSAGE, id), ERROR_CODE);
+  }
+}
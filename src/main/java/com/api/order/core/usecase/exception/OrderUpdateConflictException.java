@@ -0,0 +1,13 @@
+package com.api.order.core.usecase.exception;
+
+import static java.lang.String.format;
+
+public class OrderUpdateConflictException extends BusinessException {
+
+  private static final String ERROR_CODE = "CONFLICT";
+  private static final String MESSAGE = "Order with id=[%s] kept changing after [%s] attempts.";
+
+  public OrderUpdateConflictException(final String id, final int attempts) {
+    super(format(MESSAGE, id, attempts), ERROR_CODE);
+  }
+}
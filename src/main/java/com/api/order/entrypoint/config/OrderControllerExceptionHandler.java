@@ -2,6 +2,7 @@ package com.api.order.entrypoint.config;
 
 import com.api.order.core.domain.exception.DomainException;
 import com.api.order.core.usecase.exception.BusinessException;
+import com.api.order.core.usecase.exception.OrderArchivedException;
 import com.api.order.core.usecase.exception.OrderNotFoundException;
 import com.api.order.infra.gateway.exception.GatewayException;
 import jakarta.validation.constraints.NotNull;
@@ -53,6 +54,15 @@ public class OrderControllerExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
   }
 
+  @ExceptionHandler({OrderArchivedException.class})
+  public ResponseEntity<ErrorResponse> handlerOrderArchivedException(
+      final OrderArchivedException ex) {
+    log.error(ex.getMessage(), ex);
+    final var errorResponse = new ErrorResponse(ex.getMessage(), ex.getErrorCode(), null);
+
+    return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+  }
+
   @ExceptionHandler({DomainException.class})
   public ResponseEntity<ErrorResponse> handlerDomainException(final DomainException ex) {
     log.error(ex.getMessage(), ex);
@@ -0,0 +1,116 @@
+package com.api.order.entrypoint.consumer;
+
+import com.api.order.core.domain.exception.DomainException;
+import com.api.order.core.usecase.exception.BusinessException;
+import com.api.order.core.usecase.exception.OrderUpdateConflictException;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.Optional;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+import org.springframework.core.ParameterizedTypeReference;
+
+/**
+ * Delivery outcomes shared by the consumers that acknowledge manually. Logs only carry the delivery
+ * tag and the caller's description, never the event itself, since events may hold payment data.
+ */
+@Slf4j
+@UtilityClass
+class ManualAcks {
+
+  /** Converts the message, or rejects it without requeue when it cannot be read. */
+  <E> Optional<E> convert(
+      final Message message,
+      final Channel channel,
+      final SmartMessageConverter messageConverter,
+      final Class<E> type)
+      throws IOException {
+    try {
+      return Optional.of(
+          type.cast(
+              messageConverter.fromMessage(message, ParameterizedTypeReference.forType(type))));
+    } catch (MessageConversionException e) {
+      final var deliveryTag = message.getMessageProperties().getDeliveryTag();
+      log.warn(
+          "Rejecting unreadable {} deliveryTag={}: {}",
+          type.getSimpleName(),
+          deliveryTag,
+          e.getMessage());
+      channel.basicReject(deliveryTag, false);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Runs the handler and settles the delivery exactly once: ack on success, reject business and
+   * domain failures, hand anything else to the recoverer and ack once it confirmed the republish.
+   * Update conflicts are transient, so they go to the recoverer rather than being rejected. A
+   * failing recoverer or channel requeues the delivery instead.
+   */
+  void settle(
+      final Message message,
+      final Channel channel,
+      final String description,
+      final Runnable handler,
+      final MessageRecoverer messageRecoverer) {
+    final var deliveryTag = message.getMessageProperties().getDeliveryTag();
+    try {
+      try {
+        handler.run();
+        channel.basicAck(deliveryTag, false);
+      } catch (OrderUpdateConflictException e) {
+        log.warn(
+            "Conflict handling {} deliveryTag={}, scheduling a delayed retry: {}",
+            description,
+            deliveryTag,
+            e.getMessage());
+        recover(message, e, channel, messageRecoverer);
+      } catch (BusinessException | DomainException e) {
+        log.warn("Rejecting {} deliveryTag={}: {}", description, deliveryTag, e.getMessage());
+        channel.basicReject(deliveryTag, false);
+      } catch (RuntimeException e) {
+        log.error(
+            "Failed to handle {} deliveryTag={}, scheduling a delayed retry",
+            description,
+            deliveryTag,
+            e);
+        recover(message, e, channel, messageRecoverer);
+      }
+    } catch (IOException e) {
+      requeue(deliveryTag, channel, e);
+    }
+  }
+
+  private void recover(
+      final Message message,
+      final RuntimeException cause,
+      final Channel channel,
+      final MessageRecoverer messageRecoverer)
+      throws IOException {
+    final var deliveryTag = message.getMessageProperties().getDeliveryTag();
+    try {
+      messageRecoverer.recover(message, cause);
+    } catch (RuntimeException e) {
+      log.error("Delayed retry failed, requeueing deliveryTag={}: {}", deliveryTag, e.getMessage());
+      channel.basicReject(deliveryTag, true);
+      return;
+    }
+    channel.basicAck(deliveryTag, false);
+  }
+
+  private void requeue(final long deliveryTag, final Channel channel, final IOException cause) {
+    log.error("Could not settle deliveryTag={}, requeueing: {}", deliveryTag, cause.getMessage());
+    try {
+      channel.basicReject(deliveryTag, true);
+    } catch (IOException e) {
+      log.error(
+          "Could not requeue deliveryTag={}, it is redelivered once the channel closes: {}",
+          deliveryTag,
+          e.getMessage());
+    }
+  }
+}
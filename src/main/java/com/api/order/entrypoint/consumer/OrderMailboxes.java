@@ -0,0 +1,97 @@
+package com.api.order.entrypoint.consumer;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.rabbit.consumer.mode", havingValue = "mailbox")
+public class OrderMailboxes {
+
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+  private final Mailbox[] mailboxes;
+
+  public OrderMailboxes(
+      @Value("${app.rabbit.consumer.mailbox.count}") final int count,
+      @Value("${app.rabbit.consumer.mailbox.capacity}") final int capacity) {
+    this.mailboxes = new Mailbox[count];
+    for (int index = 0; index < count; index++) {
+      this.mailboxes[index] = new Mailbox(index, capacity);
+    }
+  }
+
+  public void submit(final String orderId, final Runnable task) throws InterruptedException {
+    this.mailboxes[indexOf(orderId)].queue.put(task);
+  }
+
+  public int pending() {
+    int pending = 0;
+    for (final var mailbox : mailboxes) {
+      pending += mailbox.queue.size();
+    }
+
+    return pending;
+  }
+
+  int indexOf(final String orderId) {
+    final var hash = orderId.hashCode();
+
+    return Math.floorMod(hash ^ (hash >>> 16), mailboxes.length);
+  }
+
+  @PreDestroy
+  public void close() throws InterruptedException {
+    for (final var mailbox : mailboxes) {
+      mailbox.running = false;
+    }
+    for (final var mailbox : mailboxes) {
+      mailbox.thread.join(SHUTDOWN_TIMEOUT.toMillis());
+      if (!mailbox.queue.isEmpty()) {
+        log.warn(
+            "Mailbox {} stopped with {} unprocessed events, they will be redelivered",
+            mailbox.index,
+            mailbox.queue.size());
+      }
+    }
+  }
+
+  private static final class Mailbox implements Runnable {
+
+    private final int index;
+    private final BlockingQueue<Runnable> queue;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private Mailbox(final int index, final int capacity) {
+      this.index = index;
+      this.queue = new ArrayBlockingQueue<>(capacity);
+      this.thread = Thread.ofPlatform().name("order-mailbox-" + index).daemon().start(this);
+    }
+
+    @Override
+    public void run() {
+      while (running) {
+        try {
+          final var task = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+          if (task != null) {
+            task.run();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        } catch (RuntimeException e) {
+          log.error("Mailbox {} task failed", index, e);
+        }
+      }
+    }
+  }
+}
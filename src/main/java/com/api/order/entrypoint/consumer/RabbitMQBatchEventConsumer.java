@@ -0,0 +1,116 @@
+package com.api.order.entrypoint.consumer;
+
+import com.api.order.config.RabbitMQBatchConsumerConfig;
+import com.api.order.config.RabbitMQConfig;
+import com.api.order.core.usecase.HandleOrderEvents;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.StockReservedEvent;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.rabbit.consumer.mode", havingValue = "batch")
+public class RabbitMQBatchEventConsumer {
+
+  private final HandleOrderEvents handleOrderEvents;
+  private final SmartMessageConverter messageConverter;
+  private final MessageRecoverer messageRecoverer;
+
+  @RabbitListener(
+      queues = RabbitMQConfig.STOCK_RESERVED_QUEUE,
+      containerFactory = RabbitMQBatchConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+  public void consumeStockReservedEvents(final List<Message> messages, final Channel channel)
+      throws IOException {
+    this.consume(
+        messages,
+        channel,
+        StockReservedEvent.class,
+        StockReservedEvent::orderId,
+        handleOrderEvents::handleStockReservedEvents,
+        handleOrderEvents::handleStockReservedEvent);
+  }
+
+  @RabbitListener(
+      queues = RabbitMQConfig.PAYMENT_PROCESSED_QUEUE,
+      containerFactory = RabbitMQBatchConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+  public void consumePaymentProcessedEvents(final List<Message> messages, final Channel channel)
+      throws IOException {
+    this.consume(
+        messages,
+        channel,
+        PaymentProcessedEvent.class,
+        PaymentProcessedEvent::orderId,
+        handleOrderEvents::handlePaymentProcessedEvents,
+        handleOrderEvents::handlePaymentProcessedEvent);
+  }
+
+  private <E> void consume(
+      final List<Message> messages,
+      final Channel channel,
+      final Class<E> type,
+      final Function<E, String> orderId,
+      final Function<List<E>, List<Integer>> batchHandler,
+      final Consumer<E> singleHandler)
+      throws IOException {
+    final var events = new ArrayList<E>(messages.size());
+    final var accepted = new ArrayList<Message>(messages.size());
+
+    for (final var message : messages) {
+      final var event = ManualAcks.convert(message, channel, messageConverter, type);
+      if (event.isPresent()) {
+        events.add(event.get());
+        accepted.add(message);
+      }
+    }
+
+    if (events.isEmpty()) {
+      return;
+    }
+
+    final List<Integer> rejected;
+    try {
+      rejected = batchHandler.apply(events);
+    } catch (RuntimeException e) {
+      log.warn(
+          "Batch of {} {} failed, handling them one at a time",
+          events.size(),
+          type.getSimpleName(),
+          e);
+      for (int index = 0; index < events.size(); index++) {
+        final var event = events.get(index);
+        ManualAcks.settle(
+            accepted.get(index),
+            channel,
+            type.getSimpleName() + " orderId=" + orderId.apply(event),
+            () -> singleHandler.accept(event),
+            messageRecoverer);
+      }
+      return;
+    }
+
+    final var rejectedIndexes = new HashSet<>(rejected);
+    for (int index = 0; index < events.size(); index++) {
+      final var deliveryTag = accepted.get(index).getMessageProperties().getDeliveryTag();
+      if (rejectedIndexes.contains(index)) {
+        channel.basicReject(deliveryTag, false);
+      } else {
+        channel.basicAck(deliveryTag, false);
+      }
+    }
+  }
+}
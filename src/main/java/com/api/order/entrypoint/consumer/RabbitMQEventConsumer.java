@@ -21,31 +21,29 @@ public class RabbitMQEventConsumer {
   private final HandleOrderEvents handleOrderEvents;
   private final CreateOrder createOrder;
 
-  @RabbitListener(queues = RabbitMQConfig.STOCK_RESERVED_QUEUE)
+  @RabbitListener(
+      queues = RabbitMQConfig.STOCK_RESERVED_QUEUE,
+      autoStartup = RabbitMQConfig.SINGLE_CONSUMER_MODE)
   public void consumeStockReservedEvent(final StockReservedEvent event) {
     log.info("Received StockReservedEvent for orderId: {}", event.orderId());
     handleOrderEvents.handleStockReservedEvent(event);
   }
 
-  @RabbitListener(queues = RabbitMQConfig.PAYMENT_PROCESSED_QUEUE)
+  @RabbitListener(
+      queues = RabbitMQConfig.PAYMENT_PROCESSED_QUEUE,
+      autoStartup = RabbitMQConfig.SINGLE_CONSUMER_MODE)
   public void consumePaymentProcessedEvent(final PaymentProcessedEvent event) {
     log.info("Received PaymentProcessedEvent for orderId: {}", event.orderId());
     handleOrderEvents.handlePaymentProcessedEvent(event);
   }
 
-  @RabbitListener(queues = RabbitMQConfig.ORDER_RECEIVED_QUEUE)
+  @RabbitListener(
+      queues = RabbitMQConfig.ORDER_RECEIVED_QUEUE,
+      autoStartup = RabbitMQConfig.SINGLE_INGESTION_MODE)
   public void consumeOrderReceivedEvent(final OrderReceivedEvent event) {
     log.info("Processing OrderReceivedEvent for productSku: {}", event.productSku());
     try {
-      final var orderDto =
-          OrderDto.builder()
-              .productSku(event.productSku())
-              .productQuantity(event.productQuantity())
-              .clientCpf(event.clientCpf())
-              .paymentDetails(new PaymentDetailsDto(event.paymentMethod(), event.cardNumber()))
-              .build();
-
-      this.createOrder.execute(orderDto);
+      this.createOrder.execute(toOrderDto(event));
       log.info("Order processed successfully for event with productSku: {}", event.productSku());
     } catch (Exception e) {
       log.error(
@@ -55,4 +53,13 @@ public class RabbitMQEventConsumer {
       throw new RuntimeException("Failed to process order", e);
     }
   }
+
+  static OrderDto toOrderDto(final OrderReceivedEvent event) {
+    return OrderDto.builder()
+        .productSku(event.productSku())
+        .productQuantity(event.productQuantity())
+        .clientCpf(event.clientCpf())
+        .paymentDetails(new PaymentDetailsDto(event.paymentMethod(), event.cardNumber()))
+        .build();
+  }
 }
@@ -0,0 +1,85 @@
+package com.api.order.entrypoint.consumer;
+
+import com.api.order.config.RabbitMQConfig;
+import com.api.order.config.RabbitMQMailboxConsumerConfig;
+import com.api.order.core.usecase.HandleOrderEvents;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.StockReservedEvent;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.rabbit.consumer.mode", havingValue = "mailbox")
+public class RabbitMQMailboxEventConsumer {
+
+  private final HandleOrderEvents handleOrderEvents;
+  private final OrderMailboxes orderMailboxes;
+  private final SmartMessageConverter messageConverter;
+  private final MessageRecoverer messageRecoverer;
+
+  @RabbitListener(
+      queues = RabbitMQConfig.STOCK_RESERVED_QUEUE,
+      containerFactory = RabbitMQMailboxConsumerConfig.MAILBOX_LISTENER_CONTAINER_FACTORY)
+  public void consumeStockReservedEvent(final Message message, final Channel channel)
+      throws IOException {
+    this.dispatch(
+        message,
+        channel,
+        StockReservedEvent.class,
+        StockReservedEvent::orderId,
+        handleOrderEvents::handleStockReservedEvent);
+  }
+
+  @RabbitListener(
+      queues = RabbitMQConfig.PAYMENT_PROCESSED_QUEUE,
+      containerFactory = RabbitMQMailboxConsumerConfig.MAILBOX_LISTENER_CONTAINER_FACTORY)
+  public void consumePaymentProcessedEvent(final Message message, final Channel channel)
+      throws IOException {
+    this.dispatch(
+        message,
+        channel,
+        PaymentProcessedEvent.class,
+        PaymentProcessedEvent::orderId,
+        handleOrderEvents::handlePaymentProcessedEvent);
+  }
+
+  private <E> void dispatch(
+      final Message message,
+      final Channel channel,
+      final Class<E> type,
+      final Function<E, String> orderId,
+      final Consumer<E> handler)
+      throws IOException {
+    final var converted = ManualAcks.convert(message, channel, messageConverter, type);
+    if (converted.isEmpty()) {
+      return;
+    }
+
+    final var event = converted.get();
+    final var description = type.getSimpleName() + " orderId=" + orderId.apply(event);
+    final var deliveryTag = message.getMessageProperties().getDeliveryTag();
+    try {
+      this.orderMailboxes.submit(
+          orderId.apply(event),
+          () ->
+              ManualAcks.settle(
+                  message, channel, description, () -> handler.accept(event), messageRecoverer));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted before deliveryTag={} reached its mailbox, requeueing", deliveryTag);
+      channel.basicReject(deliveryTag, true);
+    }
+  }
+}
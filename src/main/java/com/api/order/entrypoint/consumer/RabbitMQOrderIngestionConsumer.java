@@ -0,0 +1,92 @@
+package com.api.order.entrypoint.consumer;
+
+import com.api.order.config.RabbitMQConfig;
+import com.api.order.config.RabbitMQIngestionConfig;
+import com.api.order.core.dto.OrderBatchItemResult;
+import com.api.order.core.usecase.CreateOrder;
+import com.api.order.core.usecase.CreateOrderBatch;
+import com.api.order.event.OrderReceivedEvent;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.rabbit.ingestion.mode", havingValue = "batch")
+public class RabbitMQOrderIngestionConsumer {
+
+  private final CreateOrderBatch createOrderBatch;
+  private final CreateOrder createOrder;
+  private final SmartMessageConverter messageConverter;
+  private final MessageRecoverer messageRecoverer;
+
+  @RabbitListener(
+      queues = RabbitMQConfig.ORDER_RECEIVED_QUEUE,
+      containerFactory = RabbitMQIngestionConfig.INGESTION_LISTENER_CONTAINER_FACTORY)
+  public void consumeOrderReceivedEvents(final List<Message> messages, final Channel channel)
+      throws IOException {
+    final var events = new ArrayList<OrderReceivedEvent>(messages.size());
+    final var accepted = new ArrayList<Message>(messages.size());
+
+    for (final var message : messages) {
+      final var event =
+          ManualAcks.convert(message, channel, messageConverter, OrderReceivedEvent.class);
+      if (event.isPresent()) {
+        events.add(event.get());
+        accepted.add(message);
+      }
+    }
+
+    if (events.isEmpty()) {
+      return;
+    }
+
+    final List<Boolean> created;
+    try {
+      created =
+          createOrderBatch
+              .execute(events.stream().map(RabbitMQEventConsumer::toOrderDto).toList())
+              .stream()
+              .map(OrderBatchItemResult::isCreated)
+              .toList();
+    } catch (RuntimeException e) {
+      log.warn(
+          "Ingestion batch of {} orders failed, handling them one at a time", events.size(), e);
+      for (int index = 0; index < events.size(); index++) {
+        this.consumeOne(events.get(index), accepted.get(index), channel);
+      }
+      return;
+    }
+
+    int failed = 0;
+    for (int index = 0; index < events.size(); index++) {
+      if (created.get(index)) {
+        channel.basicAck(accepted.get(index).getMessageProperties().getDeliveryTag(), false);
+      } else {
+        failed++;
+        this.consumeOne(events.get(index), accepted.get(index), channel);
+      }
+    }
+    log.info("Ingested {} orders, {} retried individually", events.size() - failed, failed);
+  }
+
+  private void consumeOne(
+      final OrderReceivedEvent event, final Message message, final Channel channel) {
+    ManualAcks.settle(
+        message,
+        channel,
+        "OrderReceivedEvent productSku=" + event.productSku(),
+        () -> createOrder.execute(RabbitMQEventConsumer.toOrderDto(event)),
+        messageRecoverer);
+  }
+}
@@ -0,0 +1,41 @@
+package com.api.order.entrypoint.consumer;
+
+import com.api.order.config.RabbitMQPartitionConfig;
+import com.api.order.core.usecase.HandleOrderEvents;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.StockReservedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.rabbit.consumer.mode", havingValue = "partitioned")
+public class RabbitMQPartitionedEventConsumer {
+
+  private final HandleOrderEvents handleOrderEvents;
+
+  @RabbitListener(
+      queues = RabbitMQPartitionConfig.STOCK_RESERVED_PARTITIONS,
+      containerFactory = RabbitMQPartitionConfig.PARTITIONED_LISTENER_CONTAINER_FACTORY)
+  public void consumeStockReservedEvent(
+      final StockReservedEvent event, @Header(AmqpHeaders.CONSUMER_QUEUE) final String partition) {
+    log.info("Received StockReservedEvent for orderId: {} on {}", event.orderId(), partition);
+    handleOrderEvents.handleStockReservedEvent(event);
+  }
+
+  @RabbitListener(
+      queues = RabbitMQPartitionConfig.PAYMENT_PROCESSED_PARTITIONS,
+      containerFactory = RabbitMQPartitionConfig.PARTITIONED_LISTENER_CONTAINER_FACTORY)
+  public void consumePaymentProcessedEvent(
+      final PaymentProcessedEvent event,
+      @Header(AmqpHeaders.CONSUMER_QUEUE) final String partition) {
+    log.info("Received PaymentProcessedEvent for orderId: {} on {}", event.orderId(), partition);
+    handleOrderEvents.handlePaymentProcessedEvent(event);
+  }
+}
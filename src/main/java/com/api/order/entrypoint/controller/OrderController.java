@@ -3,20 +3,39 @@ package com.api.order.entrypoint.controller;
 import static java.lang.String.format;
 
 import com.api.order.core.domain.Order;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentStatus;
 import com.api.order.core.dto.OrderDto;
+import com.api.order.core.dto.OrderExportFilter;
+import com.api.order.core.dto.OrderFilter;
 import com.api.order.core.dto.PaymentDetailsDto;
 import com.api.order.core.usecase.CreateOrder;
+import com.api.order.core.usecase.CreateOrderBatch;
 import com.api.order.core.usecase.DeleteOrder;
+import com.api.order.core.usecase.ExportOrders;
+import com.api.order.core.usecase.ListOrders;
 import com.api.order.core.usecase.SearchOrder;
+import com.api.order.core.usecase.UpdateOrderStatuses;
+import com.api.order.entrypoint.controller.request.OrderStatusUpdateRequest;
 import com.api.order.presenter.ErrorPresenter;
 import com.api.order.presenter.OrderPresenter;
+import com.api.order.presenter.response.OrderBatchItemPresenterResponse;
+import com.api.order.presenter.response.OrderPagePresenterResponse;
 import com.api.order.presenter.response.OrderPresenterResponse;
+import com.api.order.presenter.response.OrderStatusUpdatePresenterResponse;
 import jakarta.validation.Valid;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,9 +43,17 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
   private static final String ORDER_NOT_FOUND_MESSAGE = "Order with id=[%s] not found.";
+  private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+  private static final String GZIP_ENCODING = "gzip";
+  private static final String ANY_ENCODING = "*";
+  private static final String QUALITY_PARAMETER = "q=";
 
   private final CreateOrder createOrder;
+  private final CreateOrderBatch createOrderBatch;
   private final SearchOrder searchOrder;
+  private final ListOrders listOrders;
+  private final ExportOrders exportOrders;
+  private final UpdateOrderStatuses updateOrderStatuses;
   private final DeleteOrder deleteOrder;
   private final OrderPresenter presenter;
   private final ErrorPresenter errorPresenter;
@@ -38,6 +65,67 @@ public class OrderController {
     return new ResponseEntity<>(this.presenter.parseToResponse(order), HttpStatus.CREATED);
   }
 
+  @PostMapping("/batch")
+  public ResponseEntity<List<OrderBatchItemPresenterResponse>> createBatch(
+      @Valid @RequestBody final List<Order> requests) {
+    final var results =
+        this.createOrderBatch.execute(requests.stream().map(this::toOrderDto).toList());
+
+    return ResponseEntity.ok(this.presenter.parseToBatchResponse(results));
+  }
+
+  @GetMapping
+  public ResponseEntity<OrderPagePresenterResponse> list(
+      @RequestParam(name = "status", required = false) final String status,
+      @RequestParam(name = "clientCpf", required = false) final String clientCpf,
+      @RequestParam(name = "productSku", required = false) final String productSku,
+      @RequestParam(name = "after", required = false) final String after,
+      @RequestParam(name = "limit", required = false) final Integer limit) {
+    final var filter =
+        OrderFilter.builder()
+            .status(status == null ? null : OrderStatus.fromName(status))
+            .clientCpf(clientCpf)
+            .productSku(productSku)
+            .build();
+
+    return ResponseEntity.ok(
+        this.presenter.parseToPageResponse(this.listOrders.execute(filter, after, limit)));
+  }
+
+  @GetMapping(value = "/export", produces = NDJSON_MEDIA_TYPE)
+  public ResponseEntity<StreamingResponseBody> export(
+      @RequestParam(name = "status", required = false) final String status,
+      @RequestParam(name = "from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          final Instant from,
+      @RequestParam(name = "to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          final Instant to,
+      @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false)
+          final String acceptEncoding) {
+    final var filter =
+        OrderExportFilter.builder()
+            .status(status == null ? null : OrderStatus.fromName(status))
+            .createdFrom(from)
+            .createdTo(to)
+            .build();
+    final var response =
+        ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE));
+
+    if (acceptsGzip(acceptEncoding)) {
+      return response
+          .header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING)
+          .body(
+              outputStream -> {
+                try (final var gzip = new GZIPOutputStream(outputStream)) {
+                  this.exportOrders.execute(filter, gzip);
+                }
+              });
+    }
+
+    return response.body(outputStream -> this.exportOrders.execute(filter, outputStream));
+  }
+
   @GetMapping("/{id}")
   @ResponseStatus(HttpStatus.OK)
   public ResponseEntity<Object> search(@Validated @PathVariable("id") final String id) {
@@ -53,6 +141,32 @@ public class OrderController {
                             format(ORDER_NOT_FOUND_MESSAGE, id))));
   }
 
+  @PatchMapping("/status")
+  public ResponseEntity<List<OrderStatusUpdatePresenterResponse>> updateStatuses(
+      @RequestBody final OrderStatusUpdateRequest request) {
+    final var filter =
+        request.filter() == null
+            ? null
+            : OrderFilter.builder()
+                .status(
+                    request.filter().status() == null
+                        ? null
+                        : OrderStatus.fromName(request.filter().status()))
+                .clientCpf(request.filter().clientCpf())
+                .productSku(request.filter().productSku())
+                .build();
+    final var results =
+        this.updateOrderStatuses.execute(
+            request.ids(),
+            filter,
+            request.orderStatus() == null ? null : OrderStatus.fromName(request.orderStatus()),
+            request.paymentStatus() == null
+                ? null
+                : PaymentStatus.fromName(request.paymentStatus()));
+
+    return ResponseEntity.ok(this.presenter.parseToStatusUpdateResponse(results));
+  }
+
   @DeleteMapping("/{id}")
   public ResponseEntity<Void> delete(@Validated @PathVariable("id") final String id) {
     this.deleteOrder.execute(id);
@@ -60,10 +174,50 @@ public class OrderController {
     return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
   }
 
+  private static boolean acceptsGzip(final String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+
+    Double gzipQuality = null;
+    Double anyQuality = null;
+    for (final var element : acceptEncoding.split(",")) {
+      final var parts = element.split(";");
+      final var coding = parts[0].trim();
+      if (coding.equalsIgnoreCase(GZIP_ENCODING)) {
+        gzipQuality = quality(parts);
+      } else if (coding.equals(ANY_ENCODING)) {
+        anyQuality = quality(parts);
+      }
+    }
+
+    final var quality = gzipQuality != null ? gzipQuality : anyQuality;
+    return quality != null && quality > 0;
+  }
+
+  private static double quality(final String[] parts) {
+    for (int index = 1; index < parts.length; index++) {
+      final var parameter = parts[index].trim();
+      if (parameter.regionMatches(true, 0, QUALITY_PARAMETER, 0, QUALITY_PARAMETER.length())) {
+        try {
+          return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()).trim());
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+
+    return 1;
+  }
+
   private OrderDto toOrderDto(final Order order) {
     final var payment = order.getPaymentDetails();
     final var paymentDto =
-        new PaymentDetailsDto(payment.getPaymentMethod().name(), payment.getCardNumber());
+        payment == null
+            ? null
+            : new PaymentDetailsDto(
+                payment.getPaymentMethod() == null ? null : payment.getPaymentMethod().name(),
+                payment.getCardNumber());
 
     return OrderDto.builder()
         .productSku(order.getProductSku())
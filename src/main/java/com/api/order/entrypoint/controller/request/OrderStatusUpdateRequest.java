@@ -0,0 +1,9 @@
+package com.api.order.entrypoint.controller.request;
+
+import java.util.List;
+
+public record OrderStatusUpdateRequest(
+    List<String> ids, Filter filter, String orderStatus, String paymentStatus) {
+
+  public record Filter(String status, String clientCpf, String productSku) {}
+}
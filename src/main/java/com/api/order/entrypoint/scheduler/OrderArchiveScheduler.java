@@ -0,0 +1,20 @@
+package com.api.order.entrypoint.scheduler;
+
+import com.api.order.core.usecase.ArchiveOrders;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.order.archive.enabled", havingValue = "true")
+public class OrderArchiveScheduler {
+
+  private final ArchiveOrders archiveOrders;
+
+  @Scheduled(cron = "${app.order.archive.cron}")
+  public void archive() {
+    this.archiveOrders.execute();
+  }
+}
@@ -0,0 +1,20 @@
+package com.api.order.entrypoint.scheduler;
+
+import com.api.order.core.usecase.PurgeDeletedOrders;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.order.purge.enabled", havingValue = "true")
+public class OrderPurgeScheduler {
+
+  private final PurgeDeletedOrders purgeDeletedOrders;
+
+  @Scheduled(cron = "${app.order.purge.cron}")
+  public void purge() {
+    this.purgeDeletedOrders.execute();
+  }
+}
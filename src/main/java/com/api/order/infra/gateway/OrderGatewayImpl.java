@@ -3,52 +3,93 @@ package com.api.order.infra.gateway;
 import static java.lang.String.format;
 
 import com.api.order.core.domain.Order;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.dto.OrderFilter;
+import com.api.order.core.dto.OrderStatusUpdateResult;
+import com.api.order.core.dto.OrderStatusUpdateResult.Outcome;
 import com.api.order.core.gateway.OrderGateway;
+import com.api.order.infra.gateway.cache.OrderCache;
 import com.api.order.infra.gateway.exception.GatewayException;
+import com.api.order.infra.gateway.id.OrderIdGenerator;
+import com.api.order.infra.persistence.entity.OrderEntity;
 import com.api.order.infra.persistence.repository.OrderRepository;
+import com.api.order.infra.persistence.repository.OrderSpecifications;
 import com.api.order.mapper.OrderEntityMapper;
-import com.api.order.mapper.PaymentDetailsEntityMapper;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderGatewayImpl implements OrderGateway {
 
   private static final String SAVE_ERROR_MESSAGE = "Error saving order for id=[%s].";
+  private static final String SAVE_ALL_ERROR_MESSAGE = "Error saving batch of [%s] orders.";
   private static final String FIND_ERROR_MESSAGE = "Order id=[%s] not found.";
+  private static final String FIND_PAGE_ERROR_MESSAGE = "Error listing orders after id=[%s].";
+  private static final String FIND_CLOSED_ERROR_MESSAGE =
+      "Error listing orders closed before=[%s].";
   private static final String UPDATE_ERROR_MESSAGE = "Error updating order for id=[%s].";
+  private static final String UPDATE_ALL_ERROR_MESSAGE = "Error updating batch of [%s] orders.";
   private static final String DELETE_ERROR_MESSAGE = "Error deleting order for id=[%s].";
+  private static final String PURGE_ERROR_MESSAGE = "Error purging orders deleted before=[%s].";
+  private static final String DELETE_ALL_ERROR_MESSAGE = "Error deleting batch of [%s] orders.";
+  private static final List<String> CLOSED_STATUSES =
+      Arrays.stream(OrderStatus.values()).filter(OrderStatus::isClosed).map(Enum::name).toList();
 
   private final OrderRepository orderRepository;
+  private final OrderIdGenerator orderIdGenerator;
+  private final OrderCache orderCache;
+  private final Clock clock;
 
   @Override
   @Transactional
   public Order save(final Order order) {
     try {
       final var orderEntity = OrderEntityMapper.toEntity(order);
-      final var paymentDetailsEntity =
-          PaymentDetailsEntityMapper.toEntity(order.getPaymentDetails());
+      orderEntity.setId(orderIdGenerator.nextId());
+      orderEntity.setCreatedAt(clock.instant());
 
-      orderEntity.setPaymentDetail(paymentDetailsEntity);
-      paymentDetailsEntity.setOrder(orderEntity);
+      final var savedOrder = OrderEntityMapper.toDomain(orderRepository.save(orderEntity));
+      orderCache.putAfterCommit(List.of(savedOrder));
 
-      final var savedResponse = orderRepository.save(orderEntity);
+      return savedOrder;
+    } catch (IllegalArgumentException e) {
+      throw new GatewayException(format(SAVE_ERROR_MESSAGE, order.getId()));
+    }
+  }
+
+  @Override
+  @Transactional
+  public List<Order> saveAll(final List<Order> orders) {
+    try {
+      final var orderEntities = orders.stream().map(OrderEntityMapper::toEntity).toList();
+      final var createdAt = clock.instant();
+      orderEntities.forEach(
+          orderEntity -> {
+            orderEntity.setId(orderIdGenerator.nextId());
+            orderEntity.setCreatedAt(createdAt);
+          });
 
-      final var savedOrder =
-          OrderEntityMapper.toDomain(savedResponse).toBuilder().id(savedResponse.getId()).build();
-      final var savedPaymentDetails =
-          PaymentDetailsEntityMapper.toDomain(savedResponse.getPaymentDetail()).toBuilder()
-              .id(savedResponse.getPaymentDetail().getId())
-              .build();
+      final var savedOrders =
+          orderRepository.saveAll(orderEntities).stream().map(OrderEntityMapper::toDomain).toList();
+      orderCache.putAfterCommit(savedOrders);
 
-      return savedOrder.toBuilder().paymentDetails(savedPaymentDetails).build();
+      return savedOrders;
     } catch (IllegalArgumentException e) {
-      throw new GatewayException(format(SAVE_ERROR_MESSAGE, order.getId()));
+      throw new GatewayException(format(SAVE_ALL_ERROR_MESSAGE, orders.size()));
     }
   }
 
@@ -56,70 +97,215 @@ public class OrderGatewayImpl implements OrderGateway {
   @Transactional(readOnly = true)
   public Optional<Order> findById(final String id) {
     try {
-      return orderRepository
-          .findById(id)
-          .map(
-              orderEntity -> {
-                final var order = OrderEntityMapper.toDomain(orderEntity);
-                final var paymentDetails =
-                    PaymentDetailsEntityMapper.toDomain(orderEntity.getPaymentDetail()).toBuilder()
-                        .id(orderEntity.getPaymentDetail().getId())
-                        .build();
-                return order.toBuilder().paymentDetails(paymentDetails).build();
-              });
+      return orderCache.get(
+          id,
+          key -> orderRepository.findWithPaymentDetailById(key).map(OrderEntityMapper::toDomain));
     } catch (IllegalArgumentException e) {
       throw new GatewayException(format(FIND_ERROR_MESSAGE, id));
     }
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public List<Order> findPage(final OrderFilter filter, final String after, final int limit) {
+    try {
+      return orderRepository
+          .findBy(
+              OrderSpecifications.matching(filter, after),
+              query -> query.sortBy(Sort.by("id")).limit(limit).all())
+          .stream()
+          .map(OrderEntityMapper::toDomain)
+          .toList();
+    } catch (IllegalArgumentException e) {
+      throw new GatewayException(format(FIND_PAGE_ERROR_MESSAGE, after));
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Order> findClosedBefore(final Instant createdBefore, final int limit) {
+    try {
+      return orderRepository
+          .findArchivable(CLOSED_STATUSES, createdBefore, Limit.of(limit))
+          .stream()
+          .map(OrderEntityMapper::toDomain)
+          .toList();
+    } catch (IllegalArgumentException e) {
+      throw new GatewayException(format(FIND_CLOSED_ERROR_MESSAGE, createdBefore));
+    }
+  }
+
+  @Override
+  @Transactional
+  public List<Order> findAllForUpdate(final Collection<String> ids) {
+    try {
+      return orderRepository.findAllForUpdateByIdIn(ids).stream()
+          .map(OrderEntityMapper::toDomain)
+          .toList();
+    } catch (IllegalArgumentException e) {
+      throw new GatewayException(format(FIND_ERROR_MESSAGE, ids));
+    }
+  }
+
+  @Override
+  @Transactional
+  public void updateAll(final List<Order> orders) {
+    try {
+      for (final var order : orders) {
+        orderCache.evict(order.getId());
+        final var orderEntity = orderRepository.getReferenceById(order.getId());
+        orderEntity.setStatus(order.getStatus().name());
+        orderEntity.setStockReserved(order.isStockReserved());
+        orderEntity.getPaymentDetail().setStatus(order.getPaymentDetails().getStatus().name());
+      }
+
+      orderRepository.flush();
+    } catch (IllegalArgumentException e) {
+      throw new GatewayException(format(UPDATE_ALL_ERROR_MESSAGE, orders.size()));
+    }
+  }
+
   @Override
   @Transactional
-  public Order update(final Order order) {
+  public boolean transition(final Order current, final Order target) {
     try {
-      log.info(
-          "Updating order: id={}, stockReserved={}, paymentStatus={}, orderStatus={}",
-          order.getId(),
-          order.isStockReserved(),
-          order.getPaymentDetails().getStatus(),
-          order.getStatus());
-      final var entity =
-          orderRepository
-              .findById(order.getId())
-              .orElseThrow(() -> new GatewayException(format(FIND_ERROR_MESSAGE, order.getId())));
-      log.info(
-          "Entity before save: id={}, stockReserved={}", entity.getId(), entity.isStockReserved());
-
-      entity.setStatus(order.getStatus().name());
-      entity.getPaymentDetail().setStatus(order.getPaymentDetails().getStatus().name());
-      entity.setStockReserved(order.isStockReserved());
-      log.info(
-          "Updating order entity id={}, stockReserved={}, orderStatus={}, paymentStatus: {}",
-          entity.getId(),
-          entity.isStockReserved(),
-          entity.getStatus(),
-          entity.getPaymentDetail().getStatus());
-
-      final var savedResponse = orderRepository.saveAndFlush(entity);
-      log.info(
-          "Updated order entity id={}, stockReserved={}, orderStatus={}, paymentStatus: {}",
-          savedResponse.getId(),
-          savedResponse.isStockReserved(),
-          savedResponse.getStatus(),
-          savedResponse.getPaymentDetail().getStatus());
-
-      return OrderEntityMapper.toDomain(savedResponse);
+      orderCache.evict(current.getId());
+      final var updated =
+          orderRepository.compareAndSet(
+              current.getId(),
+              current.getVersion(),
+              current.getStatus().name(),
+              target.getStatus().name(),
+              target.isStockReserved());
+
+      if (updated == 0) {
+        return false;
+      }
+
+      final var paymentStatus = target.getPaymentDetails().getStatus();
+      if (paymentStatus != current.getPaymentDetails().getStatus()) {
+        orderRepository.updatePaymentStatus(current.getId(), paymentStatus.name());
+      }
+
+      return true;
     } catch (IllegalArgumentException e) {
-      throw new GatewayException(format(UPDATE_ERROR_MESSAGE, order.getId()));
+      throw new GatewayException(format(UPDATE_ERROR_MESSAGE, current.getId()));
     }
   }
 
   @Override
   @Transactional
-  public void delete(final String id) {
+  public List<OrderStatusUpdateResult> updateStatuses(
+      final List<String> ids, final OrderStatus orderStatus, final PaymentStatus paymentStatus) {
     try {
-      orderRepository.deleteById(id);
+      final var current =
+          orderRepository.findAllForUpdateByIdIn(ids).stream()
+              .collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+      final var results = new ArrayList<OrderStatusUpdateResult>(ids.size());
+      final var orderIds = new ArrayList<String>();
+      final var paymentIds = new ArrayList<String>();
+
+      for (final var id : ids) {
+        final var entity = current.get(id);
+        if (entity == null) {
+          results.add(new OrderStatusUpdateResult(id, Outcome.NOT_FOUND));
+          continue;
+        }
+
+        final var currentStatus = OrderStatus.fromName(entity.getStatus());
+        final var currentPaymentStatus =
+            PaymentStatus.fromName(entity.getPaymentDetail().getStatus());
+        final var changeStatus = orderStatus != null && orderStatus != currentStatus;
+        final var changePayment = paymentStatus != null && paymentStatus != currentPaymentStatus;
+
+        if (!changeStatus && !changePayment) {
+          results.add(new OrderStatusUpdateResult(id, Outcome.UNCHANGED));
+        } else if ((changeStatus && !currentStatus.canTransitionTo(orderStatus))
+            || (changePayment && !currentPaymentStatus.canTransitionTo(paymentStatus))) {
+          results.add(new OrderStatusUpdateResult(id, Outcome.ILLEGAL_TRANSITION));
+        } else {
+          results.add(new OrderStatusUpdateResult(id, Outcome.UPDATED));
+          if (changeStatus) {
+            orderIds.add(id);
+          }
+          if (changePayment) {
+            paymentIds.add(id);
+          }
+        }
+      }
+
+      if (!paymentIds.isEmpty()) {
+        orderRepository.updatePaymentStatusIn(
+            paymentIds, names(PaymentStatus.sourcesOf(paymentStatus)), paymentStatus.name());
+        // Payment details carry no version, so bump the order's to fail concurrent transitions.
+        final var paymentOnlyIds =
+            paymentIds.stream().filter(id -> !orderIds.contains(id)).toList();
+        if (!paymentOnlyIds.isEmpty()) {
+          orderRepository.incrementVersionIn(paymentOnlyIds);
+        }
+      }
+      if (!orderIds.isEmpty()) {
+        orderRepository.updateStatusIn(
+            orderIds, names(OrderStatus.sourcesOf(orderStatus)), orderStatus.name());
+      }
+      ids.forEach(orderCache::evict);
+
+      return results;
+    } catch (IllegalArgumentException e) {
+      throw new GatewayException(format(UPDATE_ALL_ERROR_MESSAGE, ids.size()));
+    }
+  }
+
+  @Override
+  @Transactional
+  public boolean delete(final String id) {
+    try {
+      orderCache.evict(id);
+
+      return orderRepository.softDelete(id, clock.instant()) > 0;
     } catch (IllegalArgumentException e) {
       throw new GatewayException(format(DELETE_ERROR_MESSAGE, id));
     }
   }
+
+  @Override
+  @Transactional
+  public int purgeDeleted(final Instant deletedBefore, final int limit) {
+    try {
+      final var deletedOrders = orderRepository.findDeletedBefore(deletedBefore, limit);
+      if (deletedOrders.isEmpty()) {
+        return 0;
+      }
+
+      final var purged =
+          orderRepository.purgeDeletedByIdIn(
+              deletedOrders.stream().map(OrderRepository.DeletedOrder::getId).toList());
+      orderRepository.deletePaymentDetailsByIdIn(
+          deletedOrders.stream().map(OrderRepository.DeletedOrder::getPaymentDetailsId).toList());
+
+      return purged;
+    } catch (IllegalArgumentException e) {
+      throw new GatewayException(format(PURGE_ERROR_MESSAGE, deletedBefore));
+    }
+  }
+
+  @Override
+  @Transactional
+  public int deleteAll(final List<Order> orders) {
+    try {
+      orders.forEach(order -> orderCache.evict(order.getId()));
+      final var deleted =
+          orderRepository.deleteAllByIdIn(orders.stream().map(Order::getId).toList());
+      orderRepository.deletePaymentDetailsByIdIn(
+          orders.stream().map(order -> order.getPaymentDetails().getId()).toList());
+
+      return deleted;
+    } catch (IllegalArgumentException e) {
+      throw new GatewayException(format(DELETE_ALL_ERROR_MESSAGE, orders.size()));
+    }
+  }
+
+  private static List<String> names(final List<? extends Enum<?>> statuses) {
+    return statuses.stream().map(Enum::name).toList();
+  }
 }
@@ -5,41 +5,79 @@ import static java.lang.String.format;
 import com.api.order.core.gateway.ProductApiGateway;
 import com.api.order.infra.gateway.dto.ProductApiDto;
 import com.api.order.infra.gateway.exception.GatewayException;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.math.BigDecimal;
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Component
-@RequiredArgsConstructor
 public class ProductApiGatewayAdapter implements ProductApiGateway {
 
-  @Value("${app.product-api.base-url}")
-  private String productApiBaseUrl;
+  private static final String PRICE_CACHE_NAME = "product.price";
+  private static final String ACCESS_ERROR_MESSAGE = "Failed to access Product API=[%s]";
 
-  private final WebClient.Builder webClientBuilder;
+  private final WebClient productApiWebClient;
+  private final AsyncLoadingCache<String, BigDecimal> priceCache;
+
+  public ProductApiGatewayAdapter(
+      @Value("${app.product-api.cache.maximum-size}") final long cacheMaximumSize,
+      @Value("${app.product-api.cache.expire-after-write}") final Duration cacheExpireAfterWrite,
+      @Value("${app.product-api.cache.refresh-after-write}") final Duration cacheRefreshAfterWrite,
+      final WebClient productApiWebClient,
+      final MeterRegistry meterRegistry) {
+    this.productApiWebClient = productApiWebClient;
+    this.priceCache =
+        Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfterWrite(cacheExpireAfterWrite)
+            .refreshAfterWrite(cacheRefreshAfterWrite)
+            .recordStats()
+            .buildAsync((productSku, executor) -> callService(productSku).toFuture());
+
+    CaffeineCacheMetrics.monitor(meterRegistry, this.priceCache, PRICE_CACHE_NAME);
+  }
 
   @Override
   public BigDecimal getProductPrice(final String productSku) {
     try {
-      final String url = productApiBaseUrl + "/" + productSku;
+      return getProductPriceAsync(productSku).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof GatewayException gatewayException) {
+        throw gatewayException;
+      }
 
-      return callService(url);
-    } catch (Exception e) {
-      throw new GatewayException(format("Failed to access Product API=[%s]", e.getMessage()));
+      throw toGatewayException(e);
     }
   }
 
-  private BigDecimal callService(final String url) {
-    final var webClient = webClientBuilder.baseUrl(url).build();
-    final var productResponse =
-        webClient.get().uri(url).retrieve().bodyToMono(ProductApiDto.class).block();
+  @Override
+  public CompletableFuture<BigDecimal> getProductPriceAsync(final String productSku) {
+    return this.priceCache
+        .get(productSku)
+        .exceptionallyCompose(e -> CompletableFuture.failedFuture(toGatewayException(e)));
+  }
+
+  private Mono<BigDecimal> callService(final String productSku) {
+    return productApiWebClient
+        .get()
+        .uri("/{productSku}", productSku)
+        .retrieve()
+        .bodyToMono(ProductApiDto.class)
+        .mapNotNull(ProductApiDto::getPrice)
+        .switchIfEmpty(Mono.error(() -> new GatewayException("Product or price not found")));
+  }
 
-    if (productResponse == null || productResponse.getPrice() == null) {
-      throw new GatewayException("Product or price not found");
-    }
+  private static GatewayException toGatewayException(final Throwable e) {
+    final var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
 
-    return productResponse.getPrice();
+    return new GatewayException(format(ACCESS_ERROR_MESSAGE, cause.getMessage()));
   }
 }
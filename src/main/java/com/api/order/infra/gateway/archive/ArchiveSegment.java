@@ -0,0 +1,241 @@
+package com.api.order.infra.gateway.archive;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+final class ArchiveSegment {
+
+  static final String DATA_SUFFIX = ".seg";
+  static final String INDEX_SUFFIX = ".idx";
+
+  private static final int INDEX_MAGIC = 0x4F524458;
+
+  private final String[] blockFirstIds;
+  private final long[] blockOffsets;
+  private final int[] blockLengths;
+  private final String lastId;
+  private final MappedByteBuffer data;
+
+  private ArchiveSegment(
+      final String[] blockFirstIds,
+      final long[] blockOffsets,
+      final int[] blockLengths,
+      final String lastId,
+      final MappedByteBuffer data) {
+    this.blockFirstIds = blockFirstIds;
+    this.blockOffsets = blockOffsets;
+    this.blockLengths = blockLengths;
+    this.lastId = lastId;
+    this.data = data;
+  }
+
+  static ArchiveSegment write(
+      final Path directory, final String name, final List<Order> orders, final int blockSize)
+      throws IOException {
+    final var sorted = orders.stream().sorted(Comparator.comparing(Order::getId)).toList();
+    final var blockCount = (sorted.size() + blockSize - 1) / blockSize;
+    final var firstIds = new String[blockCount];
+    final var offsets = new long[blockCount];
+    final var lengths = new int[blockCount];
+
+    final var dataFile = directory.resolve(name + DATA_SUFFIX);
+    final var dataTemp = directory.resolve(name + DATA_SUFFIX + ".tmp");
+
+    try (final var channel = createFile(dataTemp)) {
+      long offset = 0;
+      for (int block = 0; block < blockCount; block++) {
+        final var from = block * blockSize;
+        final var blockOrders = sorted.subList(from, Math.min(from + blockSize, sorted.size()));
+        final var compressed = compress(blockOrders);
+
+        channel.write(ByteBuffer.wrap(compressed));
+        firstIds[block] = blockOrders.getFirst().getId();
+        offsets[block] = offset;
+        lengths[block] = compressed.length;
+        offset += compressed.length;
+      }
+      channel.force(true);
+    }
+
+    final var indexFile = directory.resolve(name + INDEX_SUFFIX);
+    final var indexTemp = directory.resolve(name + INDEX_SUFFIX + ".tmp");
+    final var lastId = sorted.getLast().getId();
+
+    final var index = new ByteArrayOutputStream();
+    try (final var output = new DataOutputStream(index)) {
+      output.writeInt(INDEX_MAGIC);
+      output.writeInt(blockCount);
+      for (int block = 0; block < blockCount; block++) {
+        output.writeUTF(firstIds[block]);
+        output.writeLong(offsets[block]);
+        output.writeInt(lengths[block]);
+      }
+      output.writeUTF(lastId);
+    }
+
+    try (final var channel = createFile(indexTemp)) {
+      final var buffer = ByteBuffer.wrap(index.toByteArray());
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+
+    Files.move(dataTemp, dataFile, StandardCopyOption.ATOMIC_MOVE);
+    Files.move(indexTemp, indexFile, StandardCopyOption.ATOMIC_MOVE);
+    syncDirectory(directory);
+
+    return new ArchiveSegment(firstIds, offsets, lengths, lastId, map(dataFile));
+  }
+
+  static ArchiveSegment open(final Path indexFile) throws IOException {
+    final var fileName = indexFile.getFileName().toString();
+    final var dataFile =
+        indexFile.resolveSibling(
+            fileName.substring(0, fileName.length() - INDEX_SUFFIX.length()) + DATA_SUFFIX);
+
+    try (final var input = new DataInputStream(Files.newInputStream(indexFile))) {
+      if (input.readInt() != INDEX_MAGIC) {
+        throw new IOException("Invalid archive index " + indexFile);
+      }
+
+      final var blockCount = input.readInt();
+      final var firstIds = new String[blockCount];
+      final var offsets = new long[blockCount];
+      final var lengths = new int[blockCount];
+
+      for (int block = 0; block < blockCount; block++) {
+        firstIds[block] = input.readUTF();
+        offsets[block] = input.readLong();
+        lengths[block] = input.readInt();
+      }
+
+      return new ArchiveSegment(firstIds, offsets, lengths, input.readUTF(), map(dataFile));
+    }
+  }
+
+  Optional<Order> find(final String id) {
+    if (blockFirstIds.length == 0
+        || id.compareTo(blockFirstIds[0]) < 0
+        || id.compareTo(lastId) > 0) {
+      return Optional.empty();
+    }
+
+    final var position = Arrays.binarySearch(blockFirstIds, id);
+    final var block = position >= 0 ? position : -position - 2;
+    final var compressed = new byte[blockLengths[block]];
+    data.get(Math.toIntExact(blockOffsets[block]), compressed);
+
+    try (final var input =
+        new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(compressed)))) {
+      final var count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        final var order = readOrder(input);
+        if (order.getId().equals(id)) {
+          return Optional.of(order);
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Corrupted archive block " + block, e);
+    }
+
+    return Optional.empty();
+  }
+
+  private static FileChannel createFile(final Path file) throws IOException {
+    return FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+  }
+
+  private static void syncDirectory(final Path directory) throws IOException {
+    try (final var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    }
+  }
+
+  private static MappedByteBuffer map(final Path dataFile) throws IOException {
+    try (final var channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  private static byte[] compress(final List<Order> orders) throws IOException {
+    final var bytes = new ByteArrayOutputStream();
+
+    try (final var output = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+      output.writeInt(orders.size());
+      for (final var order : orders) {
+        writeOrder(output, order);
+      }
+    }
+
+    return bytes.toByteArray();
+  }
+
+  private static void writeOrder(final DataOutputStream output, final Order order)
+      throws IOException {
+    final var paymentDetails = order.getPaymentDetails();
+
+    output.writeUTF(order.getId());
+    output.writeUTF(order.getProductSku());
+    output.writeInt(order.getProductQuantity());
+    output.writeUTF(order.getClientCpf());
+    output.writeUTF(order.getStatus().name());
+    output.writeUTF(order.getTotalAmount().toPlainString());
+    output.writeBoolean(order.isStockReserved());
+    output.writeLong(order.getVersion() == null ? 0 : order.getVersion());
+    output.writeInt(paymentDetails.getId());
+    output.writeUTF(paymentDetails.getPaymentMethod().name());
+    output.writeUTF(paymentDetails.getCardNumber());
+    output.writeUTF(paymentDetails.getStatus().name());
+  }
+
+  private static Order readOrder(final DataInputStream input) throws IOException {
+    final var id = input.readUTF();
+    final var productSku = input.readUTF();
+    final var productQuantity = input.readInt();
+    final var clientCpf = input.readUTF();
+    final var status = OrderStatus.valueOf(input.readUTF());
+    final var totalAmount = new BigDecimal(input.readUTF());
+    final var stockReserved = input.readBoolean();
+    final var version = input.readLong();
+    final var paymentDetails =
+        new PaymentDetails(
+            input.readInt(),
+            PaymentMethod.valueOf(input.readUTF()),
+            input.readUTF(),
+            PaymentStatus.valueOf(input.readUTF()));
+
+    return new Order(
+        id,
+        productSku,
+        productQuantity,
+        clientCpf,
+        status,
+        paymentDetails,
+        totalAmount,
+        stockReserved,
+        version);
+  }
+}
@@ -0,0 +1,109 @@
+package com.api.order.infra.gateway.archive;
+
+import static java.lang.String.format;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.gateway.OrderArchive;
+import com.api.order.infra.gateway.exception.GatewayException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class SegmentOrderArchive implements OrderArchive {
+
+  private static final String SEGMENT_NAME = "segment-%013d-%04d";
+  private static final String OPEN_ERROR_MESSAGE = "Error opening order archive=[%s].";
+  private static final String APPEND_ERROR_MESSAGE = "Error archiving [%s] orders.";
+
+  private final Path directory;
+  private final int blockSize;
+  private final Clock clock;
+  private volatile List<ArchiveSegment> segments;
+
+  public SegmentOrderArchive(
+      @Value("${app.order.archive.directory}") final Path directory,
+      @Value("${app.order.archive.block-size}") final int blockSize,
+      final Clock clock) {
+    this.directory = directory;
+    this.blockSize = blockSize;
+    this.clock = clock;
+  }
+
+  @Override
+  public synchronized void append(final List<Order> orders) {
+    if (orders.isEmpty()) {
+      return;
+    }
+
+    final var opened = segments();
+    try {
+      Files.createDirectories(directory);
+      final var name = format(SEGMENT_NAME, clock.millis(), opened.size());
+      opened.addFirst(ArchiveSegment.write(directory, name, orders, blockSize));
+    } catch (IOException e) {
+      throw new GatewayException(format(APPEND_ERROR_MESSAGE, orders.size()));
+    }
+  }
+
+  @Override
+  public Optional<Order> findById(final String id) {
+    for (final var segment : segments()) {
+      final var order = segment.find(id);
+      if (order.isPresent()) {
+        return order;
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  private List<ArchiveSegment> segments() {
+    var opened = this.segments;
+    if (opened == null) {
+      synchronized (this) {
+        opened = this.segments;
+        if (opened == null) {
+          opened = open();
+          this.segments = opened;
+        }
+      }
+    }
+
+    return opened;
+  }
+
+  private List<ArchiveSegment> open() {
+    final var opened = new CopyOnWriteArrayList<ArchiveSegment>();
+    if (!Files.isDirectory(directory)) {
+      return opened;
+    }
+
+    try (final var indexFiles = Files.list(directory)) {
+      for (final var indexFile :
+          indexFiles
+              .filter(path -> path.toString().endsWith(ArchiveSegment.INDEX_SUFFIX))
+              .sorted()
+              .toList()) {
+        try {
+          opened.addFirst(ArchiveSegment.open(indexFile));
+        } catch (IOException e) {
+          log.error("Skipping unreadable archive segment {}: {}", indexFile, e.getMessage());
+        }
+      }
+    } catch (IOException e) {
+      throw new GatewayException(format(OPEN_ERROR_MESSAGE, directory));
+    }
+
+    log.info("Opened order archive at {} with {} segments", directory, opened.size());
+    return opened;
+  }
+}
@@ -0,0 +1,71 @@
+package com.api.order.infra.gateway.bus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class EventRingBuffer {
+
+  private final Object[] slots;
+  private final AtomicLongArray published;
+  private final int mask;
+  private final AtomicLong claimed = new AtomicLong(-1);
+  private final AtomicLong consumed = new AtomicLong(-1);
+
+  EventRingBuffer(final int capacity) {
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Ring buffer capacity must be a power of two");
+    }
+
+    this.slots = new Object[capacity];
+    this.published = new AtomicLongArray(capacity);
+    this.mask = capacity - 1;
+    for (int index = 0; index < capacity; index++) {
+      this.published.set(index, -1);
+    }
+  }
+
+  boolean tryPublish(final Object event) {
+    long sequence;
+    do {
+      sequence = claimed.get();
+      if (sequence + 1 - slots.length > consumed.get()) {
+        return false;
+      }
+    } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+    this.write(sequence + 1, event);
+    return true;
+  }
+
+  int drainTo(final List<Object> batch, final int maxBatch) {
+    final var first = consumed.get() + 1;
+    var last = first - 1;
+    while (last + 1 - first < maxBatch && published.getAcquire(index(last + 1)) == last + 1) {
+      last++;
+    }
+
+    for (var sequence = first; sequence <= last; sequence++) {
+      final var index = index(sequence);
+      batch.add(slots[index]);
+      slots[index] = null;
+    }
+    consumed.setRelease(last);
+
+    return (int) (last + 1 - first);
+  }
+
+  int size() {
+    return (int) (claimed.get() - consumed.get());
+  }
+
+  private void write(final long sequence, final Object event) {
+    final var index = index(sequence);
+    slots[index] = event;
+    published.setRelease(index, sequence);
+  }
+
+  private int index(final long sequence) {
+    return (int) (sequence & mask);
+  }
+}
@@ -0,0 +1,276 @@
+package com.api.order.infra.gateway.bus;
+
+import static java.lang.String.format;
+
+import com.api.order.core.gateway.EventPublisher;
+import com.api.order.event.OrderReceivedEvent;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.ProcessPaymentEvent;
+import com.api.order.event.RefundPaymentEvent;
+import com.api.order.event.ReleaseStockEvent;
+import com.api.order.event.ReserveStockEvent;
+import com.api.order.event.StockReservedEvent;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Primary
+@Component
+@Profile(InProcessEventBus.PROFILE)
+public class InProcessEventBus implements EventPublisher, SmartInitializingSingleton {
+
+  public static final String PROFILE = "in-process";
+
+  private static final String MISSING_HANDLERS_ERROR_MESSAGE =
+      "No local handler registered for required events %s";
+
+  private static final int SPIN_ROUNDS = Runtime.getRuntime().availableProcessors() > 1 ? 1_000 : 0;
+  private static final int YIELD_ROUNDS = 100;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+
+  private final ObjectProvider<LocalEventHandler<?>> handlerProvider;
+  private final Shard[] shards;
+  private final int maxBatch;
+  private final List<String> requiredEvents;
+  private volatile Map<Class<?>, LocalEventHandler<?>> handlers = Map.of();
+  private volatile boolean running = true;
+
+  public InProcessEventBus(
+      @Value("${app.bus.consumers}") final int consumers,
+      @Value("${app.bus.ring-size}") final int ringSize,
+      @Value("${app.bus.max-batch}") final int maxBatch,
+      @Value("${app.bus.required-events}") final List<String> requiredEvents,
+      final ObjectProvider<LocalEventHandler<?>> handlerProvider) {
+    this.handlerProvider = handlerProvider;
+    this.maxBatch = maxBatch;
+    this.requiredEvents = requiredEvents;
+    this.shards = new Shard[consumers];
+    for (int index = 0; index < consumers; index++) {
+      this.shards[index] = new Shard(index, new EventRingBuffer(ringSize));
+    }
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    final var resolved = new HashMap<Class<?>, LocalEventHandler<?>>();
+    this.handlerProvider
+        .orderedStream()
+        .forEach(handler -> resolved.putIfAbsent(handler.eventType(), handler));
+    final var handled = resolved.keySet().stream().map(Class::getSimpleName).toList();
+    final var missing = requiredEvents.stream().filter(type -> !handled.contains(type)).toList();
+    if (!missing.isEmpty()) {
+      throw new IllegalStateException(format(MISSING_HANDLERS_ERROR_MESSAGE, missing));
+    }
+
+    this.handlers = Map.copyOf(resolved);
+    log.info("In-process event bus dispatching {} to {} consumers", handled, shards.length);
+
+    for (final var shard : shards) {
+      shard.thread.start();
+    }
+  }
+
+  /**
+   * Enqueues the event once the caller's transaction commits, so handlers never observe state that
+   * is later rolled back. Events published from a rolled-back transaction are dropped; outside a
+   * transaction the event is enqueued immediately.
+   */
+  @Override
+  public void publish(final Object event) {
+    this.afterCommit(List.of(event));
+  }
+
+  @Override
+  public void publishAll(final List<?> events) {
+    this.afterCommit(events);
+  }
+
+  @Override
+  public CompletableFuture<Void> publishAsync(final Object event) {
+    this.publish(event);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  public int pending() {
+    int pending = 0;
+    for (final var shard : shards) {
+      pending += shard.ring.size();
+    }
+
+    return pending;
+  }
+
+  @PreDestroy
+  public void close() throws InterruptedException {
+    this.running = false;
+    for (final var shard : shards) {
+      shard.thread.join(Duration.ofSeconds(10).toMillis());
+    }
+  }
+
+  private void afterCommit(final List<?> events) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      events.forEach(this::enqueue);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            events.forEach(InProcessEventBus.this::enqueue);
+          }
+
+          @Override
+          public void afterCompletion(final int status) {
+            if (status != STATUS_COMMITTED) {
+              log.debug("Transaction rolled back, dropping {} events", events.size());
+            }
+          }
+        });
+  }
+
+  /**
+   * A shard's own thread cannot wait for its ring to drain, so events it publishes to itself go to
+   * the shard's overflow and are dispatched, in publish order, right after the current batch.
+   */
+  private void enqueue(final Object event) {
+    final var shard = shards[shardOf(event)];
+    if (Thread.currentThread() == shard.thread) {
+      shard.overflow.add(event);
+      return;
+    }
+
+    while (!shard.ring.tryPublish(event)) {
+      LockSupport.parkNanos(FULL_PARK_NANOS);
+    }
+  }
+
+  private int shardOf(final Object event) {
+    final var hash = routingKey(event).hashCode();
+
+    return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+  }
+
+  private static String routingKey(final Object event) {
+    return switch (event) {
+      case StockReservedEvent e -> e.orderId();
+      case PaymentProcessedEvent e -> e.orderId();
+      case ReserveStockEvent e -> e.orderId();
+      case ProcessPaymentEvent e -> e.orderId();
+      case ReleaseStockEvent e -> e.orderId();
+      case RefundPaymentEvent e -> e.orderId();
+      case OrderReceivedEvent e -> e.productSku();
+      default -> event.getClass().getName();
+    };
+  }
+
+  private void consume(final Shard shard) {
+    final var batch = new ArrayList<>(maxBatch);
+    int idle = 0;
+    while (running || shard.ring.size() > 0) {
+      if (shard.ring.drainTo(batch, maxBatch) == 0) {
+        idle(++idle);
+        continue;
+      }
+
+      idle = 0;
+      this.dispatch(batch);
+      batch.clear();
+      this.drainOverflow(shard, batch);
+    }
+  }
+
+  /** Dispatches what the last batch published to its own shard, before taking the next batch. */
+  private void drainOverflow(final Shard shard, final List<Object> batch) {
+    while (!shard.overflow.isEmpty()) {
+      while (batch.size() < maxBatch && !shard.overflow.isEmpty()) {
+        batch.add(shard.overflow.poll());
+      }
+
+      this.dispatch(batch);
+      batch.clear();
+    }
+  }
+
+  private static void idle(final int idleRounds) {
+    if (idleRounds <= SPIN_ROUNDS) {
+      Thread.onSpinWait();
+    } else if (idleRounds <= SPIN_ROUNDS + YIELD_ROUNDS) {
+      Thread.yield();
+    } else {
+      LockSupport.parkNanos(IDLE_PARK_NANOS);
+    }
+  }
+
+  private void dispatch(final List<?> batch) {
+    final var byType = new LinkedHashMap<Class<?>, List<Object>>();
+    for (final var event : batch) {
+      byType.computeIfAbsent(event.getClass(), type -> new ArrayList<>()).add(event);
+    }
+
+    byType.forEach(
+        (type, events) -> {
+          final var handler = handlers.get(type);
+          if (handler == null) {
+            log.warn(
+                "No local handler for {}, dropping {} events", type.getSimpleName(), events.size());
+            return;
+          }
+
+          this.dispatch(handler, events);
+        });
+  }
+
+  @SuppressWarnings("unchecked")
+  private <E> void dispatch(final LocalEventHandler<E> handler, final List<Object> events) {
+    try {
+      handler.handleAll((List<E>) events);
+    } catch (RuntimeException e) {
+      log.warn(
+          "Batch of {} {} failed, handling them one at a time",
+          events.size(),
+          handler.eventType().getSimpleName(),
+          e);
+      for (final var event : events) {
+        try {
+          handler.handle((E) event);
+        } catch (RuntimeException failure) {
+          log.error("Failed to handle {}", handler.eventType().getSimpleName(), failure);
+        }
+      }
+    }
+  }
+
+  private final class Shard {
+
+    private final EventRingBuffer ring;
+    private final ArrayDeque<Object> overflow = new ArrayDeque<>();
+    private final Thread thread;
+
+    private Shard(final int index, final EventRingBuffer ring) {
+      this.ring = ring;
+      this.thread =
+          Thread.ofPlatform().name("order-bus-" + index).daemon().unstarted(() -> consume(this));
+    }
+  }
+}
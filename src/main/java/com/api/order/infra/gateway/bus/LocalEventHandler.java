@@ -0,0 +1,39 @@
+package com.api.order.infra.gateway.bus;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface LocalEventHandler<E> {
+
+  Class<E> eventType();
+
+  void handle(final E event);
+
+  default void handleAll(final List<E> events) {
+    events.forEach(this::handle);
+  }
+
+  static <E> LocalEventHandler<E> of(final Class<E> eventType, final Consumer<E> handler) {
+    return of(eventType, handler, events -> events.forEach(handler));
+  }
+
+  static <E> LocalEventHandler<E> of(
+      final Class<E> eventType, final Consumer<E> handler, final Consumer<List<E>> batchHandler) {
+    return new LocalEventHandler<>() {
+      @Override
+      public Class<E> eventType() {
+        return eventType;
+      }
+
+      @Override
+      public void handle(final E event) {
+        handler.accept(event);
+      }
+
+      @Override
+      public void handleAll(final List<E> events) {
+        batchHandler.accept(events);
+      }
+    };
+  }
+}
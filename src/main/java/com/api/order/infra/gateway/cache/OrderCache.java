@@ -0,0 +1,108 @@
+package com.api.order.infra.gateway.cache;
+
+import com.api.order.core.domain.Order;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class OrderCache {
+
+  private static final String CACHE_NAME = "order";
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final Cache<String, Order> cache;
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+  public OrderCache(
+      @Value("${app.order.cache.maximum-size}") final long maximumSize,
+      @Value("${app.order.cache.expire-after-write}") final Duration expireAfterWrite,
+      final MeterRegistry meterRegistry) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+  }
+
+  public Optional<Order> get(final String id, final Function<String, Optional<Order>> loader) {
+    if (isWritableTransaction()) {
+      return loader.apply(id);
+    }
+
+    final var cached = this.cache.getIfPresent(id);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+
+    final var generation = this.generations.get(stripe(id));
+    final var loaded = loader.apply(id);
+    loaded.ifPresent(
+        order ->
+            this.cache
+                .asMap()
+                .compute(
+                    id,
+                    (key, current) ->
+                        this.generations.get(stripe(id)) == generation ? order : current));
+
+    return loaded;
+  }
+
+  public void putAfterCommit(final Collection<Order> orders) {
+    afterCommit(
+        () ->
+            orders.forEach(
+                order -> {
+                  this.generations.incrementAndGet(stripe(order.getId()));
+                  this.cache.put(order.getId(), order);
+                }));
+  }
+
+  public void evict(final String id) {
+    this.invalidate(id);
+    afterCommit(() -> this.invalidate(id));
+  }
+
+  private void invalidate(final String id) {
+    this.generations.incrementAndGet(stripe(id));
+    this.cache.invalidate(id);
+  }
+
+  private static int stripe(final String id) {
+    return Math.floorMod(id.hashCode(), GENERATION_STRIPES);
+  }
+
+  private static void afterCommit(final Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  private static boolean isWritableTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+}
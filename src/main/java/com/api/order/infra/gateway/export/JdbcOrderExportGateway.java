@@ -0,0 +1,109 @@
+package com.api.order.infra.gateway.export;
+
+import com.api.order.core.dto.OrderExportFilter;
+import com.api.order.core.gateway.OrderExportGateway;
+import com.api.order.infra.gateway.exception.GatewayException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class JdbcOrderExportGateway implements OrderExportGateway {
+
+  private static final String EXPORT_ERROR_MESSAGE = "Error exporting orders.";
+  private static final String SELECT =
+      """
+      select o.id, o.product_sku, o.product_quantity, o.client_cpf, o.status, o.total_amount,
+             o.stock_reserved, o.created_at, p.payment_method, p.status as payment_status
+      from orders o
+      join payment_details p on p.id = o.payment_details_id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JsonFactory jsonFactory;
+
+  public JdbcOrderExportGateway(
+      @Value("${app.order.export.fetch-size}") final int fetchSize,
+      final DataSource dataSource,
+      final ObjectMapper objectMapper) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(fetchSize);
+    this.jsonFactory = objectMapper.getFactory();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long export(final OrderExportFilter filter, final OutputStream outputStream) {
+    final var sql = new StringBuilder(SELECT).append(" where o.deleted_at is null");
+    final var args = new ArrayList<>();
+
+    if (filter.status() != null) {
+      sql.append(" and o.status = ?");
+      args.add(filter.status().name());
+    }
+    if (filter.createdFrom() != null) {
+      sql.append(" and o.created_at >= ?");
+      args.add(Timestamp.from(filter.createdFrom()));
+    }
+    if (filter.createdTo() != null) {
+      sql.append(" and o.created_at < ?");
+      args.add(Timestamp.from(filter.createdTo()));
+    }
+    sql.append(" order by o.id");
+
+    final var exported = new AtomicLong();
+
+    try (final var generator = jsonFactory.createGenerator(outputStream)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+      jdbcTemplate.query(
+          sql.toString(),
+          resultSet -> {
+            writeLine(generator, resultSet);
+            exported.incrementAndGet();
+          },
+          args.toArray());
+    } catch (IOException | UncheckedIOException | DataAccessException e) {
+      throw new GatewayException(EXPORT_ERROR_MESSAGE);
+    }
+
+    return exported.get();
+  }
+
+  private static void writeLine(final JsonGenerator generator, final ResultSet resultSet)
+      throws SQLException {
+    try {
+      generator.writeStartObject();
+      generator.writeStringField("id", resultSet.getString("id"));
+      generator.writeStringField("productSku", resultSet.getString("product_sku"));
+      generator.writeNumberField("productQuantity", resultSet.getInt("product_quantity"));
+      generator.writeStringField("clientCpf", resultSet.getString("client_cpf"));
+      generator.writeStringField("status", resultSet.getString("status"));
+      generator.writeNumberField("totalAmount", resultSet.getBigDecimal("total_amount"));
+      generator.writeBooleanField("stockReserved", resultSet.getBoolean("stock_reserved"));
+      generator.writeStringField("paymentMethod", resultSet.getString("payment_method"));
+      generator.writeStringField("paymentStatus", resultSet.getString("payment_status"));
+      final var createdAt = resultSet.getTimestamp("created_at");
+      generator.writeStringField(
+          "createdAt", createdAt == null ? null : createdAt.toInstant().toString());
+      generator.writeEndObject();
+      generator.writeRaw('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
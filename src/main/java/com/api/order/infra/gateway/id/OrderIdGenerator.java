@@ -0,0 +1,6 @@
+package com.api.order.infra.gateway.id;
+
+public interface OrderIdGenerator {
+
+  String nextId();
+}
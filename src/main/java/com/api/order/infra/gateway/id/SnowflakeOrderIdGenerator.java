@@ -0,0 +1,60 @@
+package com.api.order.infra.gateway.id;
+
+import static java.lang.String.format;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.order.id.strategy", havingValue = "snowflake")
+public class SnowflakeOrderIdGenerator implements OrderIdGenerator {
+
+  private static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+  private static final int NODE_BITS = 10;
+  private static final int SEQUENCE_BITS = 12;
+  private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  private final Clock clock;
+  private final long nodeId;
+  private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+  public SnowflakeOrderIdGenerator(
+      final Clock clock, @Value("${app.order.id.node-id}") final long nodeId) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException(
+          format("Node id=[%s] must be between 0 and %s", nodeId, MAX_NODE_ID));
+    }
+
+    this.clock = clock;
+    this.nodeId = nodeId;
+  }
+
+  @Override
+  public String nextId() {
+    final long timestampAndSequence = nextTimestampAndSequence();
+    final long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+    final long sequence = timestampAndSequence & SEQUENCE_MASK;
+
+    final long id =
+        (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+
+    return format("%019d", id);
+  }
+
+  private long nextTimestampAndSequence() {
+    while (true) {
+      final long last = lastTimestampAndSequence.get();
+      final long now = clock.millis() - EPOCH;
+      final long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+
+      if (lastTimestampAndSequence.compareAndSet(last, next)) {
+        return next;
+      }
+    }
+  }
+}
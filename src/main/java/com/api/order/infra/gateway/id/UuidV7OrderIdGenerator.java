@@ -0,0 +1,60 @@
+package com.api.order.infra.gateway.id;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+    name = "app.order.id.strategy",
+    havingValue = "uuid-v7",
+    matchIfMissing = true)
+public class UuidV7OrderIdGenerator implements OrderIdGenerator {
+
+  private static final int COUNTER_BITS = 12;
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+  private static final long COUNTER_SEED_BOUND = 1L << (COUNTER_BITS - 1);
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+  private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  private final Clock clock;
+  private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+  public UuidV7OrderIdGenerator(final Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public String nextId() {
+    final long timestampAndCounter = nextTimestampAndCounter();
+    final long timestamp = timestampAndCounter >>> COUNTER_BITS;
+    final long counter = timestampAndCounter & COUNTER_MASK;
+
+    final long mostSignificantBits = (timestamp << 16) | VERSION | counter;
+    final long leastSignificantBits =
+        VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+
+    return new UUID(mostSignificantBits, leastSignificantBits).toString();
+  }
+
+  private long nextTimestampAndCounter() {
+    while (true) {
+      final long last = lastTimestampAndCounter.get();
+      final long now = clock.millis();
+      final long lastTimestamp = last >>> COUNTER_BITS;
+
+      final long next =
+          now > lastTimestamp
+              ? (now << COUNTER_BITS) | ThreadLocalRandom.current().nextLong(COUNTER_SEED_BOUND)
+              : last + 1;
+
+      if (lastTimestampAndCounter.compareAndSet(last, next)) {
+        return next;
+      }
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.api.order.infra.gateway.outbox;
+
+import static java.lang.String.format;
+
+import com.api.order.infra.gateway.exception.GatewayException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Futures handed out by {@link OutboxEventPublisher#publishAsync} for outbox rows written on this
+ * instance. They complete when {@link OutboxRelay} gets the broker confirm for the row, and fail
+ * when the writing transaction rolls back, the row is parked, or no confirm arrives in time (for
+ * example because another instance relayed it).
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfirmations {
+
+  private static final String ROLLED_BACK_ERROR_MESSAGE =
+      "Outbox event id=[%s] was rolled back with its transaction";
+  private static final String PARKED_ERROR_MESSAGE =
+      "Outbox event id=[%s] was parked after [%s] attempts";
+
+  private final Map<Long, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+  private final Duration timeout;
+
+  public OutboxConfirmations(@Value("${app.outbox.async.confirm-timeout}") final Duration timeout) {
+    this.timeout = timeout;
+  }
+
+  public CompletableFuture<Void> register(final Long id) {
+    final var future = new CompletableFuture<Void>();
+    this.pending.put(id, future);
+    future
+        .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+        .whenComplete((result, error) -> this.pending.remove(id, future));
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+              if (status != STATUS_COMMITTED) {
+                future.completeExceptionally(
+                    new GatewayException(format(ROLLED_BACK_ERROR_MESSAGE, id)));
+              }
+            }
+          });
+    }
+
+    return future;
+  }
+
+  public void confirmed(final Collection<Long> ids) {
+    for (final var id : ids) {
+      final var future = this.pending.get(id);
+      if (future != null) {
+        future.complete(null);
+      }
+    }
+  }
+
+  public void parked(final Collection<Long> ids, final int attempts) {
+    for (final var id : ids) {
+      final var future = this.pending.get(id);
+      if (future != null) {
+        future.completeExceptionally(
+            new GatewayException(format(PARKED_ERROR_MESSAGE, id, attempts)));
+      }
+    }
+  }
+
+  int pending() {
+    return this.pending.size();
+  }
+}
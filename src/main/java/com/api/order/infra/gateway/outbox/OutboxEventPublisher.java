@@ -0,0 +1,93 @@
+package com.api.order.infra.gateway.outbox;
+
+import com.api.order.core.gateway.EventPublisher;
+import com.api.order.infra.gateway.exception.GatewayException;
+import com.api.order.infra.gateway.queue.RabbitMQGateway;
+import com.api.order.infra.persistence.entity.OutboxEventEntity;
+import com.api.order.infra.persistence.repository.OutboxEventRepository;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxEventPublisher implements EventPublisher {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final RabbitTemplate rabbitTemplate;
+  private final Clock clock;
+  private final OutboxConfirmations confirmations;
+
+  @Override
+  @Transactional
+  public void publish(final Object event) {
+    try {
+      log.info("Writing event: {} to outbox", event.getClass().getSimpleName());
+      this.outboxEventRepository.save(toEntity(event));
+    } catch (Exception e) {
+      log.error("Failed to write event to outbox: {}", event, e);
+      throw new GatewayException("Failed to publish event: " + event);
+    }
+  }
+
+  @Override
+  @Transactional
+  public void publishAll(final List<?> events) {
+    try {
+      log.info("Writing batch of {} events to outbox", events.size());
+      this.outboxEventRepository.saveAll(events.stream().map(this::toEntity).toList());
+    } catch (Exception e) {
+      log.error("Failed to write batch of {} events to outbox", events.size(), e);
+      throw new GatewayException("Failed to publish batch of events: " + events.size());
+    }
+  }
+
+  /**
+   * Writes the event to the outbox and returns a future that completes once the relay got the
+   * broker confirm for its row. It fails if the surrounding transaction rolls back, the row is
+   * parked, or app.outbox.async.confirm-timeout elapses first.
+   */
+  @Override
+  @Transactional
+  public CompletableFuture<Void> publishAsync(final Object event) {
+    final OutboxEventEntity entity;
+    try {
+      log.info("Writing event: {} to outbox", event.getClass().getSimpleName());
+      entity = toEntity(event);
+      this.outboxEventRepository.save(entity);
+    } catch (Exception e) {
+      log.error("Failed to write event to outbox: {}", event, e);
+      return CompletableFuture.failedFuture(
+          new GatewayException("Failed to publish event: " + event));
+    }
+
+    return this.confirmations.register(entity.getId());
+  }
+
+  private OutboxEventEntity toEntity(final Object event) {
+    final var message =
+        this.rabbitTemplate.getMessageConverter().toMessage(event, new MessageProperties());
+    final var properties = message.getMessageProperties();
+
+    return OutboxEventEntity.builder()
+        .routingKey(RabbitMQGateway.routingKey(event))
+        .typeId(properties.getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME))
+        .contentType(properties.getContentType())
+        .payload(message.getBody())
+        .attempts(0)
+        .createdAt(this.clock.instant())
+        .build();
+  }
+}
@@ -0,0 +1,194 @@
+package com.api.order.infra.gateway.outbox;
+
+import com.api.order.config.RabbitMQConfig;
+import com.api.order.infra.persistence.entity.OutboxEventEntity;
+import com.api.order.infra.persistence.repository.OutboxEventRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+  private static final String MESSAGE_ID_PREFIX = "outbox-";
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final RabbitTemplate rabbitTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Clock clock;
+  private final OutboxConfirmations confirmations;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final Duration confirmTimeout;
+
+  public OutboxRelay(
+      final OutboxEventRepository outboxEventRepository,
+      final RabbitTemplate rabbitTemplate,
+      final PlatformTransactionManager transactionManager,
+      final Clock clock,
+      final OutboxConfirmations confirmations,
+      @Value("${app.outbox.relay.batch-size}") final int batchSize,
+      @Value("${app.outbox.relay.max-attempts}") final int maxAttempts,
+      @Value("${app.outbox.relay.confirm-timeout}") final Duration confirmTimeout) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.rabbitTemplate = rabbitTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.clock = clock;
+    this.confirmations = confirmations;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.confirmTimeout = confirmTimeout;
+  }
+
+  @Scheduled(fixedDelayString = "${app.outbox.relay.flush-interval-ms}")
+  public void relay() {
+    try {
+      int claimed;
+      do {
+        claimed = relayBatch();
+      } while (claimed == batchSize);
+    } catch (Exception e) {
+      log.warn("Outbox relay interrupted, pending events will be retried: {}", e.getMessage());
+    }
+  }
+
+  private int relayBatch() {
+    final var events = this.transactionTemplate.execute(status -> claimBatch());
+    if (events == null || events.isEmpty()) {
+      return 0;
+    }
+
+    final var pendingConfirms = new LinkedHashMap<Long, CorrelationData>();
+    final var unsent = new ArrayList<Long>();
+    for (final var event : events) {
+      if (!unsent.isEmpty()) {
+        unsent.add(event.getId());
+        continue;
+      }
+
+      try {
+        final var correlationData = new CorrelationData(String.valueOf(event.getId()));
+        this.rabbitTemplate.send(
+            RabbitMQConfig.EXCHANGE_NAME, event.getRoutingKey(), toMessage(event), correlationData);
+        pendingConfirms.put(event.getId(), correlationData);
+      } catch (AmqpException e) {
+        log.warn("Outbox relay could not reach the broker: {}", e.getMessage());
+        unsent.add(event.getId());
+      }
+    }
+
+    final var acked = new ArrayList<Long>(events.size());
+    final var failed = new ArrayList<Long>();
+    final var deadline = System.nanoTime() + confirmTimeout.toNanos();
+    pendingConfirms.forEach(
+        (id, correlationData) -> {
+          if (isAcked(id, correlationData, deadline)) {
+            acked.add(id);
+          } else {
+            failed.add(id);
+          }
+        });
+
+    this.transactionTemplate.executeWithoutResult(status -> settle(acked, failed, unsent));
+    this.confirmations.confirmed(acked);
+    this.park(events, failed);
+
+    log.debug("Outbox relay published {} events", acked.size());
+    return unsent.isEmpty() ? events.size() : 0;
+  }
+
+  private List<OutboxEventEntity> claimBatch() {
+    final var now = clock.instant();
+    final var events =
+        this.outboxEventRepository.findRelayable(now, maxAttempts, PageRequest.of(0, batchSize));
+    if (!events.isEmpty()) {
+      this.outboxEventRepository.claim(
+          events.stream().map(OutboxEventEntity::getId).toList(),
+          now.plus(confirmTimeout.multipliedBy(2)));
+    }
+
+    return events;
+  }
+
+  private void settle(final List<Long> acked, final List<Long> failed, final List<Long> unsent) {
+    if (!acked.isEmpty()) {
+      this.outboxEventRepository.deleteAllByIdInBatch(acked);
+    }
+    if (!failed.isEmpty()) {
+      this.outboxEventRepository.incrementAttempts(failed);
+      log.warn("Outbox relay got no confirm for {} events", failed.size());
+    }
+    if (!unsent.isEmpty()) {
+      this.outboxEventRepository.release(unsent);
+    }
+  }
+
+  private void park(final List<OutboxEventEntity> events, final List<Long> failed) {
+    final var parked =
+        events.stream()
+            .filter(event -> event.getAttempts() + 1 >= maxAttempts)
+            .map(OutboxEventEntity::getId)
+            .filter(failed::contains)
+            .toList();
+    if (!parked.isEmpty()) {
+      log.error("Outbox events {} reached {} attempts and are parked", parked, maxAttempts);
+      this.confirmations.parked(parked, maxAttempts);
+    }
+  }
+
+  private boolean isAcked(
+      final Long id, final CorrelationData correlationData, final long deadline) {
+    try {
+      final var confirm =
+          correlationData
+              .getFuture()
+              .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      if (!confirm.isAck()) {
+        log.warn("Outbox event id={} was nacked by the broker: {}", id, confirm.getReason());
+      }
+
+      return confirm.isAck();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException | TimeoutException e) {
+      return false;
+    }
+  }
+
+  private static Message toMessage(final OutboxEventEntity event) {
+    final var builder =
+        MessageBuilder.withBody(event.getPayload())
+            .setContentType(event.getContentType())
+            .setMessageId(MESSAGE_ID_PREFIX + event.getId())
+            .setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+
+    if (event.getTypeId() != null) {
+      builder.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getTypeId());
+    }
+
+    return builder.build();
+  }
+}
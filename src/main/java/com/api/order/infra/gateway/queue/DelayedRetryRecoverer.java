@@ -0,0 +1,156 @@
+package com.api.order.infra.gateway.queue;
+
+import static java.lang.String.format;
+
+import com.api.order.config.RabbitMQConfig;
+import com.api.order.core.domain.exception.DomainException;
+import com.api.order.core.usecase.exception.BusinessException;
+import com.api.order.core.usecase.exception.OrderUpdateConflictException;
+import com.api.order.infra.gateway.exception.GatewayException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class DelayedRetryRecoverer implements MessageRecoverer {
+
+  private static final String NOT_CONFIRMED_ERROR_MESSAGE =
+      "Republish to exchange=[%s] routingKey=[%s] not confirmed: %s";
+
+  public static final String ATTEMPT_HEADER = "x-retry-attempt";
+  public static final String TIER_HEADER = "x-retry-tier";
+  public static final String ORIGINAL_QUEUE_HEADER = "x-original-queue";
+  public static final String EXCEPTION_HEADER = "x-exception-message";
+
+  private final RabbitTemplate rabbitTemplate;
+  private final List<Duration> delays;
+  private final int maxAttempts;
+  private final double jitter;
+  private final Duration confirmTimeout;
+
+  public DelayedRetryRecoverer(
+      @Value("${app.rabbit.retry.delays}") final List<Duration> delays,
+      @Value("${app.rabbit.retry.max-attempts}") final int maxAttempts,
+      @Value("${app.rabbit.retry.jitter}") final double jitter,
+      @Value("${app.rabbit.publisher.confirm-timeout}") final Duration confirmTimeout,
+      final RabbitTemplate rabbitTemplate) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.delays = delays;
+    this.maxAttempts = maxAttempts;
+    this.jitter = jitter;
+    this.confirmTimeout = confirmTimeout;
+  }
+
+  /**
+   * Republishes the message to its next delay tier (or the parking queue) and only returns once the
+   * broker has confirmed it, so callers can safely ack the original delivery afterwards.
+   *
+   * @throws GatewayException if the republish is nacked or not confirmed in time
+   */
+  @Override
+  public void recover(final Message message, final Throwable cause) {
+    final var properties = message.getMessageProperties();
+    final Integer previousAttempts = properties.getHeader(ATTEMPT_HEADER);
+    final var attempt = previousAttempts == null ? 1 : previousAttempts + 1;
+
+    if (attempt >= maxAttempts || !isRetryable(cause)) {
+      log.error(
+          "Parking message from queue={} after {} attempts: {}",
+          properties.getConsumerQueue(),
+          attempt,
+          rootMessage(cause));
+      this.sendConfirmed(
+          "",
+          RabbitMQConfig.PARKING_QUEUE,
+          MessageBuilder.fromClonedMessage(message)
+              .setExpiration(null)
+              .setHeader(ORIGINAL_QUEUE_HEADER, properties.getConsumerQueue())
+              .setHeader(EXCEPTION_HEADER, rootMessage(cause))
+              .build());
+      return;
+    }
+
+    final var tier = Math.min(attempt, delays.size()) - 1;
+    final var delay = jittered(delays.get(tier));
+    log.warn(
+        "Retrying message from queue={} in {} ms (attempt {}): {}",
+        properties.getConsumerQueue(),
+        delay.toMillis(),
+        attempt,
+        rootMessage(cause));
+    this.sendConfirmed(
+        RabbitMQConfig.RETRY_EXCHANGE,
+        properties.getReceivedRoutingKey(),
+        MessageBuilder.fromClonedMessage(message)
+            .setExpiration(String.valueOf(delay.toMillis()))
+            .setHeader(ATTEMPT_HEADER, attempt)
+            .setHeader(TIER_HEADER, String.valueOf(tier))
+            .build());
+  }
+
+  private void sendConfirmed(
+      final String exchange, final String routingKey, final Message message) {
+    final var correlationData = new CorrelationData();
+    this.rabbitTemplate.send(exchange, routingKey, message, correlationData);
+
+    final String reason;
+    try {
+      final var confirm =
+          correlationData.getFuture().get(confirmTimeout.toNanos(), TimeUnit.NANOSECONDS);
+      if (confirm.isAck()) {
+        return;
+      }
+      reason = confirm.getReason();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GatewayException(format(NOT_CONFIRMED_ERROR_MESSAGE, exchange, routingKey, e));
+    } catch (ExecutionException | TimeoutException e) {
+      throw new GatewayException(format(NOT_CONFIRMED_ERROR_MESSAGE, exchange, routingKey, e));
+    }
+
+    throw new GatewayException(format(NOT_CONFIRMED_ERROR_MESSAGE, exchange, routingKey, reason));
+  }
+
+  private Duration jittered(final Duration delay) {
+    final var factor = 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+
+    return Duration.ofMillis(Math.max(1, Math.round(delay.toMillis() * factor)));
+  }
+
+  private static boolean isRetryable(final Throwable cause) {
+    for (var current = cause; current != null; current = current.getCause()) {
+      if (current instanceof OrderUpdateConflictException) {
+        return true;
+      }
+      if (current instanceof MessageConversionException
+          || current instanceof DomainException
+          || current instanceof BusinessException) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static String rootMessage(final Throwable cause) {
+    var current = cause;
+    while (current.getCause() != null) {
+      current = current.getCause();
+    }
+
+    return current.getMessage();
+  }
+}
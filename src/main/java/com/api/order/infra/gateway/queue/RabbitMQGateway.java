@@ -1,5 +1,7 @@
 package com.api.order.infra.gateway.queue;
 
+import static java.lang.String.format;
+
 import com.api.order.config.RabbitMQConfig;
 import com.api.order.core.gateway.EventPublisher;
 import com.api.order.event.ProcessPaymentEvent;
@@ -7,29 +9,49 @@ import com.api.order.event.RefundPaymentEvent;
 import com.api.order.event.ReleaseStockEvent;
 import com.api.order.event.ReserveStockEvent;
 import com.api.order.infra.gateway.exception.GatewayException;
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class RabbitMQGateway implements EventPublisher {
 
+  private static final String WINDOW_FULL_ERROR_MESSAGE =
+      "No publish slot freed up within [%s] for event: %s";
+  private static final String NOT_CONFIRMED_ERROR_MESSAGE =
+      "Event not confirmed after [%s] attempts: %s";
+
   private final RabbitTemplate rabbitTemplate;
+  private final Semaphore inFlight;
+  private final int maxRetries;
+  private final Duration retryBackoff;
+  private final Duration confirmTimeout;
+
+  public RabbitMQGateway(
+      @Value("${app.rabbit.publisher.max-in-flight}") final int maxInFlight,
+      @Value("${app.rabbit.publisher.max-retries}") final int maxRetries,
+      @Value("${app.rabbit.publisher.retry-backoff}") final Duration retryBackoff,
+      @Value("${app.rabbit.publisher.confirm-timeout}") final Duration confirmTimeout,
+      final RabbitTemplate rabbitTemplate) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.inFlight = new Semaphore(maxInFlight);
+    this.maxRetries = maxRetries;
+    this.retryBackoff = retryBackoff;
+    this.confirmTimeout = confirmTimeout;
+  }
 
   @Override
   public void publish(final Object event) {
     try {
-      final String routingKey =
-          switch (event) {
-            case ReserveStockEvent e -> "reserve-stock";
-            case ProcessPaymentEvent e -> "process-payment";
-            case ReleaseStockEvent e -> "release-stock";
-            case RefundPaymentEvent e -> "refund-payment";
-            default -> throw new IllegalArgumentException("Unknown event: " + event.getClass());
-          };
+      final String routingKey = routingKey(event);
 
       log.info(
           "Publishing event: {} with routingKey: {}", event.getClass().getSimpleName(), routingKey);
@@ -39,4 +61,97 @@ public class RabbitMQGateway implements EventPublisher {
       throw new GatewayException("Failed to publish event: " + event);
     }
   }
+
+  @Override
+  public void publishAll(final List<?> events) {
+    try {
+      log.info("Publishing batch of {} events", events.size());
+      this.rabbitTemplate.invoke(
+          operations -> {
+            events.forEach(
+                event ->
+                    operations.convertAndSend(
+                        RabbitMQConfig.EXCHANGE_NAME, routingKey(event), event));
+            return null;
+          });
+    } catch (Exception e) {
+      log.error("Failed to publish batch of {} events", events.size(), e);
+      throw new GatewayException("Failed to publish batch of events: " + events.size());
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> publishAsync(final Object event) {
+    final String routingKey;
+    try {
+      routingKey = routingKey(event);
+    } catch (IllegalArgumentException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    try {
+      if (!this.inFlight.tryAcquire(confirmTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        return CompletableFuture.failedFuture(
+            new GatewayException(format(WINDOW_FULL_ERROR_MESSAGE, confirmTimeout, event)));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return CompletableFuture.failedFuture(
+          new GatewayException("Failed to publish event: " + event));
+    }
+
+    final var result = new CompletableFuture<Void>();
+    this.send(event, routingKey, 1, result);
+    return result;
+  }
+
+  private void send(
+      final Object event,
+      final String routingKey,
+      final int attempt,
+      final CompletableFuture<Void> result) {
+    final var correlationData = new CorrelationData();
+    try {
+      this.rabbitTemplate.convertAndSend(
+          RabbitMQConfig.EXCHANGE_NAME, routingKey, event, correlationData);
+    } catch (Exception e) {
+      log.warn("Failed to send event: {} (attempt {})", event, attempt, e);
+      correlationData.getFuture().complete(new CorrelationData.Confirm(false, e.getMessage()));
+    }
+
+    correlationData
+        .getFuture()
+        .orTimeout(confirmTimeout.toNanos(), TimeUnit.NANOSECONDS)
+        .whenComplete(
+            (confirm, error) -> {
+              if (error == null && confirm.isAck()) {
+                this.inFlight.release();
+                result.complete(null);
+              } else if (attempt <= maxRetries) {
+                log.warn(
+                    "Event {} not confirmed ({}), retrying (attempt {})",
+                    event.getClass().getSimpleName(),
+                    error != null ? error : confirm.getReason(),
+                    attempt);
+                CompletableFuture.runAsync(
+                    () -> this.send(event, routingKey, attempt + 1, result),
+                    CompletableFuture.delayedExecutor(
+                        retryBackoff.multipliedBy(attempt).toNanos(), TimeUnit.NANOSECONDS));
+              } else {
+                this.inFlight.release();
+                result.completeExceptionally(
+                    new GatewayException(format(NOT_CONFIRMED_ERROR_MESSAGE, attempt, event)));
+              }
+            });
+  }
+
+  public static String routingKey(final Object event) {
+    return switch (event) {
+      case ReserveStockEvent e -> RabbitMQConfig.RESERVE_STOCK_QUEUE;
+      case ProcessPaymentEvent e -> RabbitMQConfig.PROCESS_PAYMENT_QUEUE;
+      case ReleaseStockEvent e -> RabbitMQConfig.RELEASE_STOCK_QUEUE;
+      case RefundPaymentEvent e -> RabbitMQConfig.REFUND_PAYMENT_QUEUE;
+      default -> throw new IllegalArgumentException("Unknown event: " + event.getClass());
+    };
+  }
 }
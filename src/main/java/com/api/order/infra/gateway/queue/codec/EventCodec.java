@@ -0,0 +1,323 @@
+package com.api.order.infra.gateway.queue.codec;
+
+import com.api.order.event.OrderReceivedEvent;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.ProcessPaymentEvent;
+import com.api.order.event.RefundPaymentEvent;
+import com.api.order.event.ReleaseStockEvent;
+import com.api.order.event.ReserveStockEvent;
+import com.api.order.event.StockReservedEvent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class EventCodec {
+
+  public static final byte SCHEMA_VERSION = 1;
+
+  private static final byte RESERVE_STOCK = 1;
+  private static final byte PROCESS_PAYMENT = 2;
+  private static final byte RELEASE_STOCK = 3;
+  private static final byte REFUND_PAYMENT = 4;
+  private static final byte STOCK_RESERVED = 5;
+  private static final byte PAYMENT_PROCESSED = 6;
+  private static final byte ORDER_RECEIVED = 7;
+
+  public static boolean supports(final Object event) {
+    return event instanceof ReserveStockEvent
+        || event instanceof ProcessPaymentEvent
+        || event instanceof ReleaseStockEvent
+        || event instanceof RefundPaymentEvent
+        || event instanceof StockReservedEvent
+        || event instanceof PaymentProcessedEvent
+        || event instanceof OrderReceivedEvent;
+  }
+
+  public static byte[] encode(final Object event) {
+    return switch (event) {
+      case ReserveStockEvent e ->
+          new Writer(RESERVE_STOCK, size(e.orderId()) + size(e.productSku()) + size(e.quantity()))
+              .string(e.orderId())
+              .string(e.productSku())
+              .int32(e.quantity())
+              .bytes();
+      case ReleaseStockEvent e ->
+          new Writer(RELEASE_STOCK, size(e.orderId()) + size(e.productSku()) + size(e.quantity()))
+              .string(e.orderId())
+              .string(e.productSku())
+              .int32(e.quantity())
+              .bytes();
+      case ProcessPaymentEvent e ->
+          new Writer(
+                  PROCESS_PAYMENT,
+                  size(e.orderId())
+                      + size(e.amount())
+                      + size(e.cardNumber())
+                      + size(e.paymentMethod()))
+              .string(e.orderId())
+              .decimal(e.amount())
+              .string(e.cardNumber())
+              .string(e.paymentMethod())
+              .bytes();
+      case RefundPaymentEvent e ->
+          new Writer(REFUND_PAYMENT, size(e.orderId()) + size(e.amount()))
+              .string(e.orderId())
+              .decimal(e.amount())
+              .bytes();
+      case StockReservedEvent e ->
+          new Writer(STOCK_RESERVED, size(e.orderId()) + 1)
+              .string(e.orderId())
+              .bool(e.success())
+              .bytes();
+      case PaymentProcessedEvent e ->
+          new Writer(PAYMENT_PROCESSED, size(e.orderId()) + 1)
+              .string(e.orderId())
+              .bool(e.success())
+              .bytes();
+      case OrderReceivedEvent e ->
+          new Writer(
+                  ORDER_RECEIVED,
+                  size(e.productSku())
+                      + size(e.productQuantity())
+                      + size(e.clientCpf())
+                      + size(e.paymentMethod())
+                      + size(e.cardNumber()))
+              .string(e.productSku())
+              .int32(e.productQuantity())
+              .string(e.clientCpf())
+              .string(e.paymentMethod())
+              .string(e.cardNumber())
+              .bytes();
+      default -> throw new IllegalArgumentException("Unsupported event: " + event.getClass());
+    };
+  }
+
+  public static Object decode(final byte[] bytes) {
+    final var reader = new Reader(bytes);
+    final var version = reader.int8();
+    if (version != SCHEMA_VERSION) {
+      throw new IllegalArgumentException("Unsupported schema version: " + version);
+    }
+
+    final var tag = reader.int8();
+    final Object event =
+        switch (tag) {
+          case RESERVE_STOCK ->
+              new ReserveStockEvent(reader.string(), reader.string(), reader.int32());
+          case RELEASE_STOCK ->
+              new ReleaseStockEvent(reader.string(), reader.string(), reader.int32());
+          case PROCESS_PAYMENT ->
+              new ProcessPaymentEvent(
+                  reader.string(), reader.decimal(), reader.string(), reader.string());
+          case REFUND_PAYMENT -> new RefundPaymentEvent(reader.string(), reader.decimal());
+          case STOCK_RESERVED -> new StockReservedEvent(reader.string(), reader.bool());
+          case PAYMENT_PROCESSED -> new PaymentProcessedEvent(reader.string(), reader.bool());
+          case ORDER_RECEIVED ->
+              new OrderReceivedEvent(
+                  reader.string(),
+                  reader.int32(),
+                  reader.string(),
+                  reader.string(),
+                  reader.string());
+          default -> throw new IllegalArgumentException("Unknown event tag: " + tag);
+        };
+
+    if (!reader.exhausted()) {
+      throw new IllegalArgumentException("Trailing bytes after event tag: " + tag);
+    }
+
+    return event;
+  }
+
+  private static int size(final String value) {
+    if (value == null) {
+      return 1;
+    }
+
+    final var length = utf8Length(value);
+    return varintSize(length + 1) + length;
+  }
+
+  private static int size(final int value) {
+    return varintSize(zigzag(value));
+  }
+
+  private static int size(final BigDecimal value) {
+    if (value == null) {
+      return 1;
+    }
+
+    return 1 + size(value.scale()) + varlongSize(zigzag(value.unscaledValue().longValueExact()));
+  }
+
+  private static int utf8Length(final String value) {
+    var length = 0;
+    for (int i = 0; i < value.length(); i++) {
+      final var c = value.charAt(i);
+      if (c < 0x80) {
+        length += 1;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c)) {
+        length += 4;
+        i++;
+      } else {
+        length += 3;
+      }
+    }
+
+    return length;
+  }
+
+  private static int varintSize(final int value) {
+    return varlongSize(Integer.toUnsignedLong(value));
+  }
+
+  private static int varlongSize(final long value) {
+    return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+  }
+
+  private static int zigzag(final int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  private static long zigzag(final long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static final class Writer {
+
+    private final byte[] buffer;
+    private int position;
+
+    private Writer(final byte tag, final int payloadSize) {
+      this.buffer = new byte[2 + payloadSize];
+      this.buffer[position++] = SCHEMA_VERSION;
+      this.buffer[position++] = tag;
+    }
+
+    private Writer string(final String value) {
+      if (value == null) {
+        return varlong(0);
+      }
+
+      varlong(utf8Length(value) + 1L);
+      for (int i = 0; i < value.length(); i++) {
+        final var c = value.charAt(i);
+        if (c < 0x80) {
+          buffer[position++] = (byte) c;
+        } else if (c < 0x800) {
+          buffer[position++] = (byte) (0xC0 | (c >> 6));
+          buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+          final var codePoint = Character.toCodePoint(c, value.charAt(++i));
+          buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+          buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+          buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+          buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+          buffer[position++] = (byte) (0xE0 | (c >> 12));
+          buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+          buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+      }
+
+      return this;
+    }
+
+    private Writer int32(final int value) {
+      return varlong(Integer.toUnsignedLong(zigzag(value)));
+    }
+
+    private Writer bool(final boolean value) {
+      buffer[position++] = (byte) (value ? 1 : 0);
+      return this;
+    }
+
+    private Writer decimal(final BigDecimal value) {
+      if (value == null) {
+        return bool(false);
+      }
+
+      bool(true);
+      int32(value.scale());
+      return varlong(zigzag(value.unscaledValue().longValueExact()));
+    }
+
+    private Writer varlong(final long value) {
+      var remaining = value;
+      while ((remaining & ~0x7FL) != 0) {
+        buffer[position++] = (byte) ((remaining & 0x7F) | 0x80);
+        remaining >>>= 7;
+      }
+      buffer[position++] = (byte) remaining;
+      return this;
+    }
+
+    private byte[] bytes() {
+      return buffer;
+    }
+  }
+
+  private static final class Reader {
+
+    private final byte[] buffer;
+    private int position;
+
+    private Reader(final byte[] buffer) {
+      this.buffer = buffer;
+    }
+
+    private byte int8() {
+      return buffer[position++];
+    }
+
+    private String string() {
+      final var length = (int) varlong() - 1;
+      if (length < 0) {
+        return null;
+      }
+
+      final var value = new String(buffer, position, length, StandardCharsets.UTF_8);
+      position += length;
+      return value;
+    }
+
+    private int int32() {
+      final var value = (int) varlong();
+      return (value >>> 1) ^ -(value & 1);
+    }
+
+    private boolean bool() {
+      return buffer[position++] != 0;
+    }
+
+    private BigDecimal decimal() {
+      if (!bool()) {
+        return null;
+      }
+
+      final var scale = int32();
+      final var value = varlong();
+      return BigDecimal.valueOf((value >>> 1) ^ -(value & 1), scale);
+    }
+
+    private long varlong() {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        final var b = buffer[position++];
+        value |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+
+      throw new IllegalArgumentException("Malformed varint at position: " + position);
+    }
+
+    private boolean exhausted() {
+      return position == buffer.length;
+    }
+  }
+}
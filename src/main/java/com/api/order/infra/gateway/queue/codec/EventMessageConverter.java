@@ -0,0 +1,51 @@
+package com.api.order.infra.gateway.queue.codec;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.SmartMessageConverter;
+
+public class EventMessageConverter implements SmartMessageConverter {
+
+  public static final String BINARY_CONTENT_TYPE = "application/x-order-event";
+
+  private final Jackson2JsonMessageConverter jsonConverter;
+  private final boolean binaryOutbound;
+
+  public EventMessageConverter(
+      final Jackson2JsonMessageConverter jsonConverter, final boolean binaryOutbound) {
+    this.jsonConverter = jsonConverter;
+    this.binaryOutbound = binaryOutbound;
+  }
+
+  @Override
+  public Message toMessage(final Object object, final MessageProperties messageProperties) {
+    if (!binaryOutbound || !EventCodec.supports(object)) {
+      return this.jsonConverter.toMessage(object, messageProperties);
+    }
+
+    final var body = EventCodec.encode(object);
+    messageProperties.setContentType(BINARY_CONTENT_TYPE);
+    messageProperties.setContentLength(body.length);
+    return new Message(body, messageProperties);
+  }
+
+  @Override
+  public Object fromMessage(final Message message) {
+    return this.fromMessage(message, null);
+  }
+
+  @Override
+  public Object fromMessage(final Message message, final Object conversionHint) {
+    if (!BINARY_CONTENT_TYPE.equals(message.getMessageProperties().getContentType())) {
+      return this.jsonConverter.fromMessage(message, conversionHint);
+    }
+
+    try {
+      return EventCodec.decode(message.getBody());
+    } catch (RuntimeException e) {
+      throw new MessageConversionException("Failed to decode binary event", e);
+    }
+  }
+}
@@ -2,19 +2,31 @@ package com.api.order.infra.persistence.entity;
 
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.time.Instant;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
+import org.springframework.data.domain.Persistable;
 
 @Entity
-@Table(name = "orders")
+@Table(
+    name = "orders",
+    indexes = {
+      @Index(name = "idx_orders_status_id", columnList = "status, id"),
+      @Index(name = "idx_orders_client_cpf_id", columnList = "client_cpf, id"),
+      @Index(name = "idx_orders_product_sku_id", columnList = "product_sku, id"),
+      @Index(name = "idx_orders_created_at", columnList = "created_at"),
+      @Index(name = "idx_orders_deleted_at", columnList = "deleted_at")
+    })
+@SQLRestriction("deleted_at is null")
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class OrderEntity {
+public class OrderEntity implements Persistable<String> {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", length = 36)
   private String id;
 
   @Column(name = "product_sku", nullable = false)
@@ -32,10 +44,33 @@ public class OrderEntity {
   @Column(name = "total_amount", nullable = false)
   private BigDecimal totalAmount;
 
-  @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
+  @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
   @JoinColumn(name = "payment_details_id", referencedColumnName = "id", nullable = false)
   private PaymentDetailsEntity paymentDetail;
 
   @Column(name = "stock_reserved")
   private boolean stockReserved = false;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(name = "deleted_at")
+  private Instant deletedAt;
+
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
+
+  @Transient @Builder.Default private boolean newEntity = true;
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.newEntity = false;
+  }
 }
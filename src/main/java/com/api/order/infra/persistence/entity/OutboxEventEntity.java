@@ -0,0 +1,44 @@
+package com.api.order.infra.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OutboxEventEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+  @SequenceGenerator(
+      name = "outbox_events_seq",
+      sequenceName = "outbox_events_seq",
+      allocationSize = 50)
+  private Long id;
+
+  @Column(name = "routing_key", nullable = false)
+  private String routingKey;
+
+  @Column(name = "type_id")
+  private String typeId;
+
+  @Column(name = "content_type", nullable = false)
+  private String contentType;
+
+  @Column(name = "payload", nullable = false, length = 4096)
+  private byte[] payload;
+
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  @Column(name = "locked_until")
+  private Instant lockedUntil;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+}
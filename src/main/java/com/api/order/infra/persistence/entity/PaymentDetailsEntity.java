@@ -13,7 +13,11 @@ import lombok.*;
 public class PaymentDetailsEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_details_seq")
+  @SequenceGenerator(
+      name = "payment_details_seq",
+      sequenceName = "payment_details_seq",
+      allocationSize = 50)
   private Integer id;
 
   @Column(name = "payment_method", nullable = false)
@@ -25,6 +29,6 @@ public class PaymentDetailsEntity {
   @Column(name = "status", nullable = false)
   private String status;
 
-  @OneToOne(mappedBy = "paymentDetail")
+  @OneToOne(mappedBy = "paymentDetail", fetch = FetchType.LAZY)
   private OrderEntity order;
 }
@@ -1,6 +1,128 @@
 package com.api.order.infra.persistence.repository;
 
 import com.api.order.infra.persistence.entity.OrderEntity;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<OrderEntity, String> {}
+public interface OrderRepository
+    extends JpaRepository<OrderEntity, String>, JpaSpecificationExecutor<OrderEntity> {
+
+  @EntityGraph(attributePaths = "paymentDetail")
+  Optional<OrderEntity> findWithPaymentDetailById(final String id);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select o from OrderEntity o join fetch o.paymentDetail where o.id in :ids")
+  List<OrderEntity> findAllForUpdateByIdIn(@Param("ids") final Collection<String> ids);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      update OrderEntity o set o.status = :status, o.version = o.version + 1
+      where o.id in :ids and o.status in :sources
+      """)
+  int updateStatusIn(
+      @Param("ids") final Collection<String> ids,
+      @Param("sources") final Collection<String> sources,
+      @Param("status") final String status);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      update PaymentDetailsEntity p set p.status = :status
+      where p.status in :sources
+        and p.id in (select o.paymentDetail.id from OrderEntity o where o.id in :ids)
+      """)
+  int updatePaymentStatusIn(
+      @Param("ids") final Collection<String> ids,
+      @Param("sources") final Collection<String> sources,
+      @Param("status") final String status);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update OrderEntity o set o.version = o.version + 1 where o.id in :ids")
+  int incrementVersionIn(@Param("ids") final Collection<String> ids);
+
+  @Query(
+      """
+      select o from OrderEntity o join fetch o.paymentDetail
+      where o.status in :statuses and o.createdAt < :createdBefore
+      order by o.id
+      """)
+  List<OrderEntity> findArchivable(
+      @Param("statuses") final Collection<String> statuses,
+      @Param("createdBefore") final Instant createdBefore,
+      final Limit limit);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      update OrderEntity o set o.deletedAt = :deletedAt, o.version = o.version + 1
+      where o.id = :id and o.deletedAt is null
+      """)
+  int softDelete(@Param("id") final String id, @Param("deletedAt") final Instant deletedAt);
+
+  @Query(
+      value =
+          """
+          select o.id as id, o.payment_details_id as paymentDetailsId from orders o
+          where o.deleted_at < :deletedBefore
+          order by o.deleted_at
+          limit :limit
+          """,
+      nativeQuery = true)
+  List<DeletedOrder> findDeletedBefore(
+      @Param("deletedBefore") final Instant deletedBefore, @Param("limit") final int limit);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      value = "delete from orders where id in :ids and deleted_at is not null",
+      nativeQuery = true)
+  int purgeDeletedByIdIn(@Param("ids") final Collection<String> ids);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from OrderEntity o where o.id in :ids")
+  int deleteAllByIdIn(@Param("ids") final Collection<String> ids);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from PaymentDetailsEntity p where p.id in :ids")
+  int deletePaymentDetailsByIdIn(@Param("ids") final Collection<Integer> ids);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      update PaymentDetailsEntity p set p.status = :status
+      where p.id = (select o.paymentDetail.id from OrderEntity o where o.id = :id)
+      """)
+  int updatePaymentStatus(@Param("id") final String id, @Param("status") final String status);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      update OrderEntity o
+      set o.status = :status, o.stockReserved = :stockReserved, o.version = o.version + 1
+      where o.id = :id and o.version = :version and o.status = :expectedStatus
+      """)
+  int compareAndSet(
+      @Param("id") final String id,
+      @Param("version") final long version,
+      @Param("expectedStatus") final String expectedStatus,
+      @Param("status") final String status,
+      @Param("stockReserved") final boolean stockReserved);
+
+  interface DeletedOrder {
+
+    String getId();
+
+    Integer getPaymentDetailsId();
+  }
+}
@@ -0,0 +1,37 @@
+package com.api.order.infra.persistence.repository;
+
+import com.api.order.core.dto.OrderFilter;
+import com.api.order.infra.persistence.entity.OrderEntity;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.jpa.domain.Specification;
+
+@UtilityClass
+public class OrderSpecifications {
+
+  public static Specification<OrderEntity> matching(final OrderFilter filter, final String after) {
+    return (root, query, builder) -> {
+      if (query.getResultType() != Long.class) {
+        root.fetch("paymentDetail");
+      }
+
+      final var predicates = new ArrayList<Predicate>();
+
+      if (filter.status() != null) {
+        predicates.add(builder.equal(root.get("status"), filter.status().name()));
+      }
+      if (filter.clientCpf() != null) {
+        predicates.add(builder.equal(root.get("clientCpf"), filter.clientCpf()));
+      }
+      if (filter.productSku() != null) {
+        predicates.add(builder.equal(root.get("productSku"), filter.productSku()));
+      }
+      if (after != null) {
+        predicates.add(builder.greaterThan(root.get("id"), after));
+      }
+
+      return builder.and(predicates.toArray(Predicate[]::new));
+    };
+  }
+}
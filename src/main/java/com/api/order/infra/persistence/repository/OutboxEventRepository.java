@@ -0,0 +1,43 @@
+package com.api.order.infra.persistence.repository;
+
+import com.api.order.infra.persistence.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query(
+      "select e from OutboxEventEntity e where e.attempts < :maxAttempts"
+          + " and (e.lockedUntil is null or e.lockedUntil < :now) order by e.id asc")
+  List<OutboxEventEntity> findRelayable(
+      @Param("now") final Instant now,
+      @Param("maxAttempts") final int maxAttempts,
+      final Pageable pageable);
+
+  @Modifying
+  @Query("update OutboxEventEntity e set e.lockedUntil = :lockedUntil where e.id in :ids")
+  int claim(
+      @Param("ids") final Collection<Long> ids, @Param("lockedUntil") final Instant lockedUntil);
+
+  @Modifying
+  @Query(
+      "update OutboxEventEntity e set e.attempts = e.attempts + 1, e.lockedUntil = null"
+          + " where e.id in :ids")
+  int incrementAttempts(@Param("ids") final Collection<Long> ids);
+
+  @Modifying
+  @Query("update OutboxEventEntity e set e.lockedUntil = null where e.id in :ids")
+  int release(@Param("ids") final Collection<Long> ids);
+}
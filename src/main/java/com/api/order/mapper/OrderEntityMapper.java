@@ -44,6 +44,7 @@ public class OrderEntityMapper {
         .totalAmount(entity.getTotalAmount())
         .paymentDetails(paymentDetails)
         .stockReserved(entity.isStockReserved())
+        .version(entity.getVersion())
         .build();
   }
 }
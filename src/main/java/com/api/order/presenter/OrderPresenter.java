@@ -2,13 +2,23 @@ package com.api.order.presenter;
 
 import com.api.order.core.domain.Order;
 import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.dto.OrderBatchItemResult;
+import com.api.order.core.dto.OrderPage;
+import com.api.order.core.dto.OrderStatusUpdateResult;
+import com.api.order.presenter.response.OrderBatchItemPresenterResponse;
+import com.api.order.presenter.response.OrderPagePresenterResponse;
 import com.api.order.presenter.response.OrderPresenterResponse;
+import com.api.order.presenter.response.OrderStatusUpdatePresenterResponse;
 import com.api.order.presenter.response.PaymentDetailsPresenterResponse;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
 public class OrderPresenter {
 
+  private static final String BATCH_ITEM_CREATED = "CREATED";
+  private static final String BATCH_ITEM_FAILED = "FAILED";
+
   public OrderPresenterResponse parseToResponse(final Order order) {
     return OrderPresenterResponse.builder()
         .id(order.getId())
@@ -20,6 +30,47 @@ public class OrderPresenter {
         .build();
   }
 
+  public OrderPagePresenterResponse parseToPageResponse(final OrderPage page) {
+    return OrderPagePresenterResponse.builder()
+        .orders(page.orders().stream().map(this::parseToResponse).toList())
+        .nextCursor(page.nextCursor())
+        .build();
+  }
+
+  public List<OrderBatchItemPresenterResponse> parseToBatchResponse(
+      final List<OrderBatchItemResult> results) {
+    return results.stream().map(this::parseToBatchItemResponse).toList();
+  }
+
+  public List<OrderStatusUpdatePresenterResponse> parseToStatusUpdateResponse(
+      final List<OrderStatusUpdateResult> results) {
+    return results.stream()
+        .map(
+            result ->
+                OrderStatusUpdatePresenterResponse.builder()
+                    .id(result.id())
+                    .outcome(result.outcome().name())
+                    .build())
+        .toList();
+  }
+
+  private OrderBatchItemPresenterResponse parseToBatchItemResponse(
+      final OrderBatchItemResult result) {
+    if (!result.isCreated()) {
+      return OrderBatchItemPresenterResponse.builder()
+          .index(result.index())
+          .status(BATCH_ITEM_FAILED)
+          .errorMessage(result.errorMessage())
+          .build();
+    }
+
+    return OrderBatchItemPresenterResponse.builder()
+        .index(result.index())
+        .status(BATCH_ITEM_CREATED)
+        .order(this.parseToResponse(result.order()))
+        .build();
+  }
+
   private PaymentDetailsPresenterResponse parseToResponse(final PaymentDetails paymentDetails) {
     return PaymentDetailsPresenterResponse.builder()
         .id(paymentDetails.getId())
@@ -0,0 +1,7 @@
+package com.api.order.presenter.response;
+
+import lombok.Builder;
+
+@Builder
+public record OrderBatchItemPresenterResponse(
+    int index, String status, OrderPresenterResponse order, String errorMessage) {}
@@ -0,0 +1,7 @@
+package com.api.order.presenter.response;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record OrderPagePresenterResponse(List<OrderPresenterResponse> orders, String nextCursor) {}
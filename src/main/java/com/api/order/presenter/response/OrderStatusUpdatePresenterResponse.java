@@ -0,0 +1,6 @@
+package com.api.order.presenter.response;
+
+import lombok.Builder;
+
+@Builder
+public record OrderStatusUpdatePresenterResponse(String id, String outcome) {}
@@ -0,0 +1,4 @@
+-- Composite indexes for the filtered keyset seek in GET /api/orders (WHERE <filter> AND id > ? ORDER BY id).
+CREATE INDEX idx_orders_status_id ON orders (status, id);
+CREATE INDEX idx_orders_client_cpf_id ON orders (client_cpf, id);
+CREATE INDEX idx_orders_product_sku_id ON orders (product_sku, id);
@@ -0,0 +1,3 @@
+-- Soft delete marker filtered by @SQLRestriction("deleted_at is null") and swept by PurgeDeletedOrders.
+ALTER TABLE orders ADD COLUMN deleted_at DATETIME(6) NULL;
+CREATE INDEX idx_orders_deleted_at ON orders (deleted_at);
@@ -0,0 +1,19 @@
+-- Transactional outbox read by OutboxRelay.
+-- MySQL has no sequences, so Hibernate emulates outbox_events_seq with a one-row table.
+CREATE TABLE outbox_events (
+    id           BIGINT         NOT NULL,
+    routing_key  VARCHAR(255)   NOT NULL,
+    type_id      VARCHAR(255),
+    content_type VARCHAR(255)   NOT NULL,
+    payload      VARBINARY(4096) NOT NULL,
+    attempts     INT            NOT NULL,
+    locked_until DATETIME(6),
+    created_at   DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE outbox_events_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO outbox_events_seq VALUES (1);
@@ -0,0 +1,66 @@
+package com.api.order.benchmark;
+
+import com.api.order.event.ProcessPaymentEvent;
+import com.api.order.infra.gateway.queue.codec.EventMessageConverter;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.core.ParameterizedTypeReference;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class EventCodecBenchmark {
+
+  private static final ParameterizedTypeReference<ProcessPaymentEvent> EVENT_TYPE =
+      ParameterizedTypeReference.forType(ProcessPaymentEvent.class);
+
+  @Param({"json", "binary"})
+  private String codec;
+
+  private EventMessageConverter converter;
+  private ProcessPaymentEvent event;
+  private Message encoded;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.converter =
+        new EventMessageConverter(new Jackson2JsonMessageConverter(), "binary".equals(codec));
+    this.event =
+        new ProcessPaymentEvent(
+            "0192f0c4-7b1e-7c3a-9d2f-5a6b7c8d9e0f",
+            new BigDecimal("1234.56"),
+            "1234567890123456",
+            "CREDIT_CARD");
+    this.encoded = converter.toMessage(event, new MessageProperties());
+
+    System.out.printf("%n[%s] payload size: %d bytes%n", codec, encoded.getBody().length);
+  }
+
+  @Benchmark
+  public Message encode() {
+    return converter.toMessage(event, new MessageProperties());
+  }
+
+  @Benchmark
+  public Object decode() {
+    return converter.fromMessage(encoded, EVENT_TYPE);
+  }
+}
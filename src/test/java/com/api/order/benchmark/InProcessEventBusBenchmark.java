@@ -0,0 +1,121 @@
+package com.api.order.benchmark;
+
+import com.api.order.event.StockReservedEvent;
+import com.api.order.infra.gateway.bus.InProcessEventBus;
+import com.api.order.infra.gateway.bus.LocalEventHandler;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ParameterizedTypeReference;
+
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class InProcessEventBusBenchmark {
+
+  private static final int BURST = 1_000;
+  private static final ParameterizedTypeReference<StockReservedEvent> EVENT_TYPE =
+      ParameterizedTypeReference.forType(StockReservedEvent.class);
+
+  @Param({"amqp", "in-process"})
+  private String path;
+
+  private final AtomicLong handled = new AtomicLong();
+  private final Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+  private LocalEventHandler<StockReservedEvent> handler;
+  private InProcessEventBus eventBus;
+  private StockReservedEvent[] events;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    this.handler =
+        LocalEventHandler.of(StockReservedEvent.class, event -> handled.incrementAndGet());
+    this.events =
+        IntStream.range(0, BURST)
+            .mapToObj(i -> new StockReservedEvent("order-" + i, i % 2 == 0))
+            .toArray(StockReservedEvent[]::new);
+
+    final var beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerSingleton("stockReservedEventHandler", handler);
+    this.eventBus =
+        new InProcessEventBus(
+            4,
+            4096,
+            256,
+            List.of(),
+            (ObjectProvider<LocalEventHandler<?>>)
+                (ObjectProvider<?>) beanFactory.getBeanProvider(LocalEventHandler.class));
+    this.eventBus.afterSingletonsInstantiated();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    this.eventBus.close();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public long roundTrip() {
+    return this.deliver(events[0], handled.get() + 1);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @OperationsPerInvocation(BURST)
+  public long burst() {
+    final var target = handled.get() + BURST;
+    for (final var event : events) {
+      this.send(event);
+    }
+
+    return this.await(target);
+  }
+
+  private long deliver(final StockReservedEvent event, final long target) {
+    this.send(event);
+
+    return this.await(target);
+  }
+
+  private void send(final StockReservedEvent event) {
+    if ("in-process".equals(path)) {
+      eventBus.publish(event);
+      return;
+    }
+
+    final var message = converter.toMessage(event, new MessageProperties());
+    handler.handle((StockReservedEvent) converter.fromMessage(message, EVENT_TYPE));
+  }
+
+  private long await(final long target) {
+    long current;
+    while ((current = handled.get()) < target) {
+      Thread.yield();
+    }
+
+    return current;
+  }
+}
@@ -0,0 +1,104 @@
+package com.api.order.benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class ThreadingModeBenchmark {
+
+  private static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+
+  @Param({"platform", "virtual"})
+  private String threadingMode;
+
+  @Param({"1000", "10000"})
+  private int concurrentRequests;
+
+  @Param({"5"})
+  private int blockingMillis;
+
+  private ExecutorService executor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.executor =
+        "virtual".equals(threadingMode)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(TOMCAT_DEFAULT_MAX_THREADS);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.executor.close();
+  }
+
+  @Benchmark
+  public int blockingRequests() throws Exception {
+    return runAll(() -> block(blockingMillis));
+  }
+
+  @Benchmark
+  public int blockingRequestsUnderReentrantLock() throws Exception {
+    return runAll(
+        () -> {
+          final var lock = new ReentrantLock();
+          lock.lock();
+          try {
+            block(blockingMillis);
+          } finally {
+            lock.unlock();
+          }
+        });
+  }
+
+  @Benchmark
+  public int blockingRequestsUnderSynchronized() throws Exception {
+    return runAll(
+        () -> {
+          final var monitor = new Object();
+          synchronized (monitor) {
+            block(blockingMillis);
+          }
+        });
+  }
+
+  private int runAll(final Runnable request) throws Exception {
+    final var futures = new ArrayList<Future<?>>(concurrentRequests);
+    for (int i = 0; i < concurrentRequests; i++) {
+      futures.add(executor.submit(request));
+    }
+
+    for (final var future : futures) {
+      future.get();
+    }
+
+    return futures.size();
+  }
+
+  private static void block(final int millis) {
+    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+}
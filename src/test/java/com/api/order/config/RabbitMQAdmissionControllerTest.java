@@ -0,0 +1,102 @@
+package com.api.order.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RabbitMQAdmissionControllerTest {
+
+  private final RabbitListenerEndpointRegistry listenerRegistry =
+      mock(RabbitListenerEndpointRegistry.class);
+  private final SimpleMessageListenerContainer container = new SimpleMessageListenerContainer();
+  private final SimpleMessageListenerContainer replyContainer =
+      new SimpleMessageListenerContainer();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final Timer acquireTimer =
+      meterRegistry.timer(RabbitMQAdmissionController.CONNECTION_ACQUIRE_METRIC, "pool", "orders");
+  private final RabbitMQAdmissionController admissionController =
+      new RabbitMQAdmissionController(
+          1, 4, Duration.ofMillis(50), Duration.ofMillis(5), 0.5, listenerRegistry, meterRegistry);
+
+  @BeforeEach
+  void setUp() {
+    container.setQueueNames(RabbitMQConfig.ORDER_RECEIVED_QUEUE);
+    replyContainer.setQueueNames(RabbitMQConfig.STOCK_RESERVED_QUEUE);
+  }
+
+  @Test
+  void shouldRaiseTheLimitOneStepPerHealthyIntervalUpToTheMaximum() throws Throwable {
+    when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container, replyContainer));
+
+    for (int interval = 0; interval < 5; interval++) {
+      admissionController.recordLatency(mock(ProceedingJoinPoint.class));
+      acquireTimer.record(Duration.ofMillis(1));
+      admissionController.adjust();
+    }
+
+    assertThat(admissionController.limit()).isEqualTo(4);
+    assertThat(ReflectionTestUtils.getField(container, "concurrentConsumers")).isEqualTo(4);
+    assertThat(ReflectionTestUtils.getField(replyContainer, "concurrentConsumers")).isEqualTo(1);
+    assertThat(meterRegistry.get("rabbit.listener.admission.limit").gauge().value()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldHoldTheLimitWhenThereIsNoTraffic() {
+    admissionController.adjust();
+
+    assertThat(admissionController.limit()).isEqualTo(1);
+    verifyNoInteractions(listenerRegistry);
+  }
+
+  @Test
+  void shouldCutTheLimitWhenConnectionAcquisitionOrLatencyExceedsTheTarget() {
+    ReflectionTestUtils.setField(admissionController, "limit", 4);
+    when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+    acquireTimer.record(Duration.ofMillis(1));
+    admissionController.adjust();
+    acquireTimer.record(Duration.ofMillis(20));
+
+    admissionController.adjust();
+
+    assertThat(admissionController.limit()).isEqualTo(2);
+    assertThat(ReflectionTestUtils.getField(container, "concurrentConsumers")).isEqualTo(2);
+    assertThat(admissionController.nextLimit(10, Duration.ofMillis(80).toNanos(), 0)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldPauseRunningReplyConsumersWhileOverloadedAndResumeThemOnceHealthy() {
+    final var runningReplies = mock(SimpleMessageListenerContainer.class);
+    final var idleReplies = mock(SimpleMessageListenerContainer.class);
+    when(runningReplies.getQueueNames())
+        .thenReturn(new String[] {RabbitMQConfig.PAYMENT_PROCESSED_QUEUE});
+    when(runningReplies.isRunning()).thenReturn(true);
+    when(idleReplies.getQueueNames())
+        .thenReturn(new String[] {RabbitMQConfig.STOCK_RESERVED_QUEUE});
+    when(listenerRegistry.getListenerContainers())
+        .thenReturn(List.of(container, runningReplies, idleReplies));
+    acquireTimer.record(Duration.ofMillis(20));
+
+    admissionController.adjust();
+
+    verify(runningReplies).stop();
+    verify(runningReplies, never()).start();
+    verify(runningReplies, never()).setConcurrentConsumers(anyInt());
+
+    acquireTimer.record(Duration.ofMillis(1));
+    admissionController.adjust();
+
+    verify(runningReplies).start();
+    verify(idleReplies, never()).stop();
+    verify(idleReplies, never()).start();
+  }
+}
@@ -0,0 +1,44 @@
+package com.api.order.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.CustomExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+
+class RabbitMQPartitionConfigTest {
+
+  @Test
+  void shouldHashRepliesByOrderIdIntoSingleActiveConsumerPartitions() {
+    final var declarables =
+        RabbitMQPartitionConfig.partitions(
+            new TopicExchange(RabbitMQConfig.EXCHANGE_NAME),
+            RabbitMQConfig.STOCK_RESERVED_QUEUE,
+            3);
+
+    final var exchange = declarables.getDeclarablesByType(CustomExchange.class).getFirst();
+    final var queues = declarables.getDeclarablesByType(Queue.class);
+    final var bindings = declarables.getDeclarablesByType(Binding.class);
+
+    assertThat(exchange.getName()).isEqualTo("stock-reserved.partitions");
+    assertThat(exchange.getType()).isEqualTo("x-consistent-hash");
+    assertThat(exchange.getArguments()).containsEntry("hash-header", "orderId");
+    assertThat(queues)
+        .extracting(Queue::getName)
+        .containsExactly("stock-reserved.0", "stock-reserved.1", "stock-reserved.2");
+    assertThat(queues)
+        .allSatisfy(
+            queue ->
+                assertThat(queue.getArguments()).containsEntry("x-single-active-consumer", true));
+    assertThat(bindings)
+        .hasSize(4)
+        .anySatisfy(
+            binding -> {
+              assertThat(binding.getExchange()).isEqualTo(RabbitMQConfig.EXCHANGE_NAME);
+              assertThat(binding.getDestination()).isEqualTo("stock-reserved.partitions");
+              assertThat(binding.getRoutingKey()).isEqualTo(RabbitMQConfig.STOCK_RESERVED_QUEUE);
+            });
+  }
+}
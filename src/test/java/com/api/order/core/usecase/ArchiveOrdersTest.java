@@ -0,0 +1,80 @@
+package com.api.order.core.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.gateway.OrderArchive;
+import com.api.order.core.gateway.OrderGateway;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ArchiveOrdersTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-01T00:00:00Z");
+
+  private final OrderGateway orderGateway = mock(OrderGateway.class);
+  private final OrderArchive orderArchive = mock(OrderArchive.class);
+  private final ArchiveOrders archiveOrders =
+      new ArchiveOrders(orderGateway, orderArchive, Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(archiveOrders, "olderThan", Duration.ofDays(30));
+    ReflectionTestUtils.setField(archiveOrders, "batchSize", 2);
+  }
+
+  @Test
+  void shouldArchiveBeforeDeletingEachBatchUntilExhausted() {
+    final var firstBatch = List.of(order("order-1"), order("order-2"));
+    final var lastBatch = List.of(order("order-3"));
+
+    when(orderGateway.findClosedBefore(NOW.minus(Duration.ofDays(30)), 2))
+        .thenReturn(firstBatch, lastBatch);
+
+    final var archived = archiveOrders.execute();
+
+    assertThat(archived).isEqualTo(3);
+    final InOrder inOrder = inOrder(orderArchive, orderGateway);
+    inOrder.verify(orderArchive).append(firstBatch);
+    inOrder.verify(orderGateway).deleteAll(firstBatch);
+    inOrder.verify(orderArchive).append(lastBatch);
+    inOrder.verify(orderGateway).deleteAll(lastBatch);
+    verify(orderGateway, times(2)).findClosedBefore(any(), anyInt());
+  }
+
+  @Test
+  void shouldDoNothingWhenThereIsNothingToArchive() {
+    when(orderGateway.findClosedBefore(any(), anyInt())).thenReturn(List.of());
+
+    assertThat(archiveOrders.execute()).isZero();
+    verifyNoInteractions(orderArchive);
+  }
+
+  private static Order order(final String id) {
+    return new Order(
+        id,
+        "BOLA-123-ABC",
+        1,
+        "12345678901",
+        OrderStatus.CLOSED_WITH_SUCCESS,
+        new PaymentDetails(
+            1, PaymentMethod.CREDIT_CARD, "1234567890123456", PaymentStatus.APPROVED),
+        BigDecimal.TEN,
+        true);
+  }
+}
@@ -0,0 +1,170 @@
+package com.api.order.core.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.dto.OrderDto;
+import com.api.order.core.dto.PaymentDetailsDto;
+import com.api.order.core.gateway.EventPublisher;
+import com.api.order.core.gateway.OrderGateway;
+import com.api.order.core.gateway.ProductApiGateway;
+import com.api.order.core.usecase.exception.BatchSizeExceededException;
+import com.api.order.event.ProcessPaymentEvent;
+import com.api.order.event.ReserveStockEvent;
+import com.api.order.infra.gateway.exception.GatewayException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CreateOrderBatchTest {
+
+  private final OrderGateway orderGateway = mock(OrderGateway.class);
+  private final ProductApiGateway productApiGateway = mock(ProductApiGateway.class);
+  private final EventPublisher eventPublisher = mock(EventPublisher.class);
+  private final CreateOrderBatch createOrderBatch =
+      new CreateOrderBatch(orderGateway, productApiGateway, eventPublisher);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(createOrderBatch, "maxBatchSize", 3);
+  }
+
+  @Test
+  void shouldCreateOrdersLookingUpEachSkuOnce() {
+    final var requests =
+        List.of(request("BOLA-123-ABC", 1), request("BOLA-123-ABC", 2), request("CAMISA-456", 1));
+
+    when(productApiGateway.getProductPriceAsync("BOLA-123-ABC"))
+        .thenReturn(CompletableFuture.completedFuture(BigDecimal.TEN));
+    when(productApiGateway.getProductPriceAsync("CAMISA-456"))
+        .thenReturn(CompletableFuture.completedFuture(BigDecimal.ONE));
+    when(orderGateway.saveAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              final List<Order> orders = invocation.getArgument(0);
+              return orders.stream().map(order -> saved(order, orders.indexOf(order))).toList();
+            });
+
+    final var results = createOrderBatch.execute(requests);
+
+    assertThat(results).hasSize(3).allMatch(result -> result.isCreated());
+    assertThat(results.get(1).order().getTotalAmount()).isEqualByComparingTo("20");
+    assertThat(results.get(2).order().getTotalAmount()).isEqualByComparingTo("1");
+
+    verify(productApiGateway, times(1)).getProductPriceAsync("BOLA-123-ABC");
+    verify(productApiGateway, times(1)).getProductPriceAsync("CAMISA-456");
+    verify(orderGateway).saveAll(anyList());
+
+    final ArgumentCaptor<List<?>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(eventPublisher).publishAll(eventsCaptor.capture());
+    assertThat(eventsCaptor.getValue())
+        .hasSize(6)
+        .hasOnlyElementsOfTypes(ReserveStockEvent.class, ProcessPaymentEvent.class);
+  }
+
+  @Test
+  void shouldReportFailedItemsWithoutFailingTheBatch() {
+    final var requests =
+        List.of(request("BOLA-123-ABC", 1), request("SEM-PRECO-1", 1), request("BOLA-123-ABC", 0));
+
+    when(productApiGateway.getProductPriceAsync("BOLA-123-ABC"))
+        .thenReturn(CompletableFuture.completedFuture(BigDecimal.TEN));
+    when(productApiGateway.getProductPriceAsync("SEM-PRECO-1"))
+        .thenReturn(
+            CompletableFuture.failedFuture(new GatewayException("Product or price not found")));
+    when(orderGateway.saveAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              final List<Order> orders = invocation.getArgument(0);
+              return orders.stream().map(order -> saved(order, 0)).toList();
+            });
+
+    final var results = createOrderBatch.execute(requests);
+
+    assertThat(results.get(0).isCreated()).isTrue();
+    assertThat(results.get(1).isCreated()).isFalse();
+    assertThat(results.get(1).errorMessage()).isEqualTo("Product or price not found");
+    assertThat(results.get(2).isCreated()).isFalse();
+    assertThat(results.get(2).errorMessage()).contains("product_quantity");
+
+    final ArgumentCaptor<List<Order>> ordersCaptor = ArgumentCaptor.forClass(List.class);
+    verify(orderGateway).saveAll(ordersCaptor.capture());
+    assertThat(ordersCaptor.getValue()).hasSize(1);
+  }
+
+  @Test
+  void shouldReportItemsWithoutPaymentDetailsAsFailed() {
+    final var request =
+        OrderDto.builder()
+            .productSku("BOLA-123-ABC")
+            .productQuantity(1)
+            .clientCpf("12345678901")
+            .build();
+    when(productApiGateway.getProductPriceAsync("BOLA-123-ABC"))
+        .thenReturn(CompletableFuture.completedFuture(BigDecimal.TEN));
+
+    final var results = createOrderBatch.execute(List.of(request));
+
+    assertThat(results.getFirst().errorMessage())
+        .isEqualTo("Field=[payment_details] should not be empty or null");
+    verifyNoInteractions(orderGateway, eventPublisher);
+  }
+
+  @Test
+  void shouldNotPersistWhenAllItemsFail() {
+    when(productApiGateway.getProductPriceAsync("BOLA-123-ABC"))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    final var results = createOrderBatch.execute(List.of(request("BOLA-123-ABC", 1)));
+
+    assertThat(results.getFirst().errorMessage())
+        .isEqualTo("Product with sku=[BOLA-123-ABC] not found.");
+    verifyNoInteractions(orderGateway, eventPublisher);
+  }
+
+  @Test
+  void shouldThrowBatchSizeExceededExceptionWhenBatchIsTooLarge() {
+    final var requests =
+        List.of(
+            request("BOLA-123-ABC", 1),
+            request("BOLA-123-ABC", 1),
+            request("BOLA-123-ABC", 1),
+            request("BOLA-123-ABC", 1));
+
+    assertThatThrownBy(() -> createOrderBatch.execute(requests))
+        .isInstanceOf(BatchSizeExceededException.class)
+        .hasMessage("Batch with size=[4] exceeds the limit of [3] orders.");
+
+    verifyNoInteractions(productApiGateway, orderGateway, eventPublisher);
+  }
+
+  private static OrderDto request(final String productSku, final int productQuantity) {
+    return OrderDto.builder()
+        .productSku(productSku)
+        .productQuantity(productQuantity)
+        .clientCpf("12345678901")
+        .paymentDetails(new PaymentDetailsDto("CREDIT_CARD", "1234567890123456"))
+        .build();
+  }
+
+  private static Order saved(final Order order, final int id) {
+    return order.toBuilder()
+        .id(String.valueOf(id))
+        .status(OrderStatus.OPEN)
+        .paymentDetails(
+            new PaymentDetails(
+                id, PaymentMethod.CREDIT_CARD, "1234567890123456", PaymentStatus.PENDING))
+        .build();
+  }
+}
@@ -4,56 +4,55 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import com.api.order.core.domain.Order;
-import com.api.order.core.domain.PaymentDetails;
-import com.api.order.core.domain.valueobject.OrderStatus;
-import com.api.order.core.domain.valueobject.PaymentMethod;
-import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.gateway.OrderArchive;
 import com.api.order.core.gateway.OrderGateway;
+import com.api.order.core.usecase.exception.OrderArchivedException;
 import com.api.order.core.usecase.exception.OrderNotFoundException;
-import java.math.BigDecimal;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 class DeleteOrderTest {
 
   private final OrderGateway orderGateway = mock(OrderGateway.class);
-  private final DeleteOrder deleteOrder = new DeleteOrder(orderGateway);
+  private final OrderArchive orderArchive = mock(OrderArchive.class);
+  private final DeleteOrder deleteOrder = new DeleteOrder(orderGateway, orderArchive);
 
   @Test
   void shouldDeleteOrderSuccessfullyWhenOrderExists() {
     final var id = "order-123";
-    final var existingOrder =
-        new Order(
-            "1",
-            "BOLA-123-ABC",
-            10,
-            "12345678901",
-            OrderStatus.OPEN,
-            new PaymentDetails(
-                1, PaymentMethod.CREDIT_CARD, "1234567890123456", PaymentStatus.PENDING),
-            BigDecimal.valueOf(1000.00),
-            false);
-
-    when(orderGateway.findById(id)).thenReturn(Optional.of(existingOrder));
-    doNothing().when(orderGateway).delete(id);
+
+    when(orderGateway.delete(id)).thenReturn(true);
 
     deleteOrder.execute(id);
 
-    verify(orderGateway).findById(id);
     verify(orderGateway).delete(id);
+    verifyNoMoreInteractions(orderGateway);
   }
 
   @Test
   void shouldThrowOrderNotFoundExceptionWhenOrderDoesNotExist() {
     final var id = "order-999";
 
-    when(orderGateway.findById(id)).thenReturn(Optional.empty());
+    when(orderGateway.delete(id)).thenReturn(false);
+    when(orderArchive.findById(id)).thenReturn(Optional.empty());
 
     assertThatThrownBy(() -> deleteOrder.execute(id))
         .isInstanceOf(OrderNotFoundException.class)
         .hasMessage("Order with id=[" + id + "] not found.");
 
-    verify(orderGateway).findById(id);
+    verify(orderGateway).delete(id);
     verifyNoMoreInteractions(orderGateway);
   }
+
+  @Test
+  void shouldRefuseToDeleteArchivedOrders() {
+    final var id = "order-archived";
+
+    when(orderGateway.delete(id)).thenReturn(false);
+    when(orderArchive.findById(id)).thenReturn(Optional.of(mock(Order.class)));
+
+    assertThatThrownBy(() -> deleteOrder.execute(id))
+        .isInstanceOf(OrderArchivedException.class)
+        .hasMessage("Order with id=[" + id + "] is archived and can no longer be deleted.");
+  }
 }
@@ -0,0 +1,132 @@
+package com.api.order.core.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.gateway.EventPublisher;
+import com.api.order.core.gateway.OrderGateway;
+import com.api.order.core.usecase.exception.OrderUpdateConflictException;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.ReleaseStockEvent;
+import com.api.order.event.StockReservedEvent;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class HandleOrderEventsTest {
+
+  private final OrderGateway orderGateway = mock(OrderGateway.class);
+  private final EventPublisher eventPublisher = mock(EventPublisher.class);
+  private final HandleOrderEvents handleOrderEvents =
+      new HandleOrderEvents(orderGateway, eventPublisher);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(handleOrderEvents, "maxAttempts", 3);
+  }
+
+  @Test
+  void shouldReReadAndReapplyWhenTransitionLosesTheRace() {
+    final var stale = order(0L, false);
+    final var fresh = order(1L, true);
+
+    when(orderGateway.findById("order-1")).thenReturn(Optional.of(stale), Optional.of(fresh));
+    when(orderGateway.transition(any(), any())).thenReturn(false, true);
+
+    handleOrderEvents.handlePaymentProcessedEvent(new PaymentProcessedEvent("order-1", true));
+
+    verify(orderGateway)
+        .transition(
+            eq(fresh),
+            argThat(
+                target ->
+                    target.getStatus() == OrderStatus.CLOSED_WITH_SUCCESS
+                        && target.getPaymentDetails().getStatus() == PaymentStatus.APPROVED));
+    verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  void shouldPublishCompensationOnlyAfterTransitionWins() {
+    when(orderGateway.findById("order-1")).thenReturn(Optional.of(order(0L, true)));
+    when(orderGateway.transition(any(), any())).thenReturn(false, true);
+
+    handleOrderEvents.handlePaymentProcessedEvent(new PaymentProcessedEvent("order-1", false));
+
+    verify(orderGateway, times(2)).transition(any(), any());
+    verify(eventPublisher, times(1)).publish(any(ReleaseStockEvent.class));
+  }
+
+  @Test
+  void shouldThrowConflictWhenAttemptsAreExhausted() {
+    when(orderGateway.findById("order-1")).thenReturn(Optional.of(order(0L, false)));
+    when(orderGateway.transition(any(), any())).thenReturn(false);
+
+    assertThatThrownBy(
+            () ->
+                handleOrderEvents.handleStockReservedEvent(new StockReservedEvent("order-1", true)))
+        .isInstanceOf(OrderUpdateConflictException.class)
+        .hasMessage("Order with id=[order-1] kept changing after [3] attempts.");
+
+    verify(orderGateway, times(3)).transition(any(), any());
+    verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  void shouldRejectOnlyEventsForMissingOrdersInABatch() {
+    when(orderGateway.findAllForUpdate(List.of("order-2", "order-1")))
+        .thenReturn(List.of(order(0L, false)));
+
+    final var rejected =
+        handleOrderEvents.handleStockReservedEvents(
+            List.of(
+                new StockReservedEvent("order-2", true), new StockReservedEvent("order-1", true)));
+
+    assertThat(rejected).containsExactly(0);
+    verify(orderGateway).updateAll(argThat(orders -> orders.getFirst().isStockReserved()));
+  }
+
+  @Test
+  void shouldChainEventsForTheSameOrderWithinABatch() {
+    when(orderGateway.findAllForUpdate(List.of("order-1"))).thenReturn(List.of(order(0L, false)));
+
+    final var rejected =
+        handleOrderEvents.handlePaymentProcessedEvents(
+            List.of(
+                new PaymentProcessedEvent("order-1", true),
+                new PaymentProcessedEvent("order-1", true)));
+
+    assertThat(rejected).isEmpty();
+    verify(orderGateway)
+        .updateAll(
+            argThat(
+                orders ->
+                    orders.size() == 1
+                        && orders.getFirst().getPaymentDetails().getStatus()
+                            == PaymentStatus.APPROVED));
+    verify(orderGateway, never()).transition(any(), any());
+    verifyNoInteractions(eventPublisher);
+  }
+
+  private static Order order(final long version, final boolean stockReserved) {
+    return new Order(
+        "order-1",
+        "BOLA-123-ABC",
+        1,
+        "12345678901",
+        OrderStatus.OPEN,
+        new PaymentDetails(1, PaymentMethod.CREDIT_CARD, "1234567890123456", PaymentStatus.PENDING),
+        BigDecimal.TEN,
+        stockReserved,
+        version);
+  }
+}
@@ -0,0 +1,81 @@
+package com.api.order.core.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.dto.OrderFilter;
+import com.api.order.core.gateway.OrderGateway;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ListOrdersTest {
+
+  private final OrderGateway orderGateway = mock(OrderGateway.class);
+  private final ListOrders listOrders = new ListOrders(orderGateway);
+  private final OrderFilter filter = OrderFilter.builder().status(OrderStatus.OPEN).build();
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(listOrders, "defaultLimit", 2);
+    ReflectionTestUtils.setField(listOrders, "maxLimit", 5);
+  }
+
+  @Test
+  void shouldReturnNextCursorWhenMoreOrdersExist() {
+    when(orderGateway.findPage(filter, "order-0", 3)).thenReturn(orders(3));
+
+    final var page = listOrders.execute(filter, "order-0", null);
+
+    assertThat(page.orders()).extracting(Order::getId).containsExactly("order-1", "order-2");
+    assertThat(page.nextCursor()).isEqualTo("order-2");
+  }
+
+  @Test
+  void shouldReturnNoCursorOnLastPage() {
+    when(orderGateway.findPage(filter, null, 3)).thenReturn(orders(1));
+
+    final var page = listOrders.execute(filter, null, null);
+
+    assertThat(page.orders()).hasSize(1);
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  void shouldClampRequestedLimit() {
+    when(orderGateway.findPage(any(), any(), anyInt())).thenReturn(List.of());
+
+    listOrders.execute(filter, null, 1_000);
+    listOrders.execute(filter, null, 0);
+
+    verify(orderGateway).findPage(filter, null, 6);
+    verify(orderGateway).findPage(filter, null, 2);
+  }
+
+  private static List<Order> orders(final int count) {
+    return IntStream.rangeClosed(1, count)
+        .mapToObj(
+            i ->
+                new Order(
+                    "order-" + i,
+                    "BOLA-123-ABC",
+                    1,
+                    "12345678901",
+                    OrderStatus.OPEN,
+                    new PaymentDetails(
+                        i, PaymentMethod.CREDIT_CARD, "1234567890123456", PaymentStatus.PENDING),
+                    BigDecimal.TEN,
+                    false))
+        .toList();
+  }
+}
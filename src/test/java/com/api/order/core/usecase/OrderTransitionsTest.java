@@ -0,0 +1,132 @@
+package com.api.order.core.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.RefundPaymentEvent;
+import com.api.order.event.ReleaseStockEvent;
+import com.api.order.event.StockReservedEvent;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class OrderTransitionsTest {
+
+  @Test
+  void shouldCloseWithSuccessWhenStockArrivesAfterApprovedPayment() {
+    final var order = order(OrderStatus.OPEN, false, PaymentStatus.APPROVED);
+
+    final var transition =
+        OrderTransitions.onStockReserved(order, new StockReservedEvent("order-1", true));
+
+    assertThat(transition)
+        .hasValueSatisfying(
+            it -> {
+              assertThat(it.order().getStatus()).isEqualTo(OrderStatus.CLOSED_WITH_SUCCESS);
+              assertThat(it.order().isStockReserved()).isTrue();
+              assertThat(it.events()).isEmpty();
+            });
+  }
+
+  @Test
+  void shouldCloseWithoutStockAndRefundPendingPayment() {
+    final var order = order(OrderStatus.OPEN, false, PaymentStatus.PENDING);
+
+    final var transition =
+        OrderTransitions.onStockReserved(order, new StockReservedEvent("order-1", false));
+
+    assertThat(transition)
+        .hasValueSatisfying(
+            it -> {
+              assertThat(it.order().getStatus()).isEqualTo(OrderStatus.CLOSED_WITHOUT_STOCK);
+              assertThat(it.events()).singleElement().isInstanceOf(RefundPaymentEvent.class);
+            });
+  }
+
+  @Test
+  void shouldRejectPaymentAndReleaseStockWhenPaymentFails() {
+    final var order = order(OrderStatus.OPEN, true, PaymentStatus.PENDING);
+
+    final var transition =
+        OrderTransitions.onPaymentProcessed(order, new PaymentProcessedEvent("order-1", false));
+
+    assertThat(transition)
+        .hasValueSatisfying(
+            it -> {
+              assertThat(it.order().getStatus()).isEqualTo(OrderStatus.CLOSED_WITHOUT_CREDIT);
+              assertThat(it.order().getPaymentDetails().getStatus())
+                  .isEqualTo(PaymentStatus.REJECTED);
+              assertThat(it.events()).singleElement().isInstanceOf(ReleaseStockEvent.class);
+            });
+  }
+
+  @Test
+  void shouldRefundPaymentArrivingAfterOrderClosedWithoutStock() {
+    final var order = order(OrderStatus.CLOSED_WITHOUT_STOCK, false, PaymentStatus.PENDING);
+
+    final var transition =
+        OrderTransitions.onPaymentProcessed(order, new PaymentProcessedEvent("order-1", true));
+
+    assertThat(transition)
+        .hasValueSatisfying(
+            it -> {
+              assertThat(it.order().getPaymentDetails().getStatus())
+                  .isEqualTo(PaymentStatus.REFUNDED);
+              assertThat(it.events()).singleElement().isInstanceOf(RefundPaymentEvent.class);
+            });
+  }
+
+  @Test
+  void shouldIgnoreEventsThatDoNotChangeTheOrder() {
+    assertThat(
+            OrderTransitions.onStockReserved(
+                order(OrderStatus.OPEN, true, PaymentStatus.PENDING),
+                new StockReservedEvent("order-1", true)))
+        .isEmpty();
+    assertThat(
+            OrderTransitions.onPaymentProcessed(
+                order(OrderStatus.CLOSED_WITHOUT_CREDIT, false, PaymentStatus.REJECTED),
+                new PaymentProcessedEvent("order-1", true)))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldTreatClosedOrdersAsTerminalForStockEvents() {
+    for (final var status : OrderStatus.values()) {
+      for (final var paymentStatus : PaymentStatus.values()) {
+        for (final var stockReserved : new boolean[] {false, true}) {
+          final var order = order(status, stockReserved, paymentStatus);
+
+          if (status.isClosed()) {
+            assertThat(
+                    OrderTransitions.onStockReserved(
+                        order, new StockReservedEvent("order-1", true)))
+                .isEmpty();
+            assertThat(
+                    OrderTransitions.onStockReserved(
+                        order, new StockReservedEvent("order-1", false)))
+                .isEmpty();
+          }
+        }
+      }
+    }
+  }
+
+  private static Order order(
+      final OrderStatus status, final boolean stockReserved, final PaymentStatus paymentStatus) {
+    return new Order(
+        "order-1",
+        "BOLA-123-ABC",
+        1,
+        "12345678901",
+        status,
+        new PaymentDetails(1, PaymentMethod.CREDIT_CARD, "1234567890123456", paymentStatus),
+        BigDecimal.TEN,
+        stockReserved,
+        0L);
+  }
+}
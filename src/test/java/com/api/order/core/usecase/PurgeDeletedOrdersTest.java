@@ -0,0 +1,46 @@
+package com.api.order.core.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.api.order.core.gateway.OrderGateway;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PurgeDeletedOrdersTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-01T00:00:00Z");
+
+  private final OrderGateway orderGateway = mock(OrderGateway.class);
+  private final PurgeDeletedOrders purgeDeletedOrders =
+      new PurgeDeletedOrders(orderGateway, Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(purgeDeletedOrders, "gracePeriod", Duration.ofHours(1));
+    ReflectionTestUtils.setField(purgeDeletedOrders, "batchSize", 2);
+  }
+
+  @Test
+  void shouldPurgeInBatchesUntilAShortBatch() {
+    final var deletedBefore = NOW.minus(Duration.ofHours(1));
+
+    when(orderGateway.purgeDeleted(deletedBefore, 2)).thenReturn(2, 2, 1);
+
+    assertThat(purgeDeletedOrders.execute()).isEqualTo(5);
+    verify(orderGateway, times(3)).purgeDeleted(deletedBefore, 2);
+  }
+
+  @Test
+  void shouldStopWhenNothingIsLeftToPurge() {
+    when(orderGateway.purgeDeleted(any(), anyInt())).thenReturn(0);
+
+    assertThat(purgeDeletedOrders.execute()).isZero();
+    verify(orderGateway).purgeDeleted(any(), anyInt());
+  }
+}
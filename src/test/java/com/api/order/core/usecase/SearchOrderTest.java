@@ -8,6 +8,7 @@ import com.api.order.core.domain.PaymentDetails;
 import com.api.order.core.domain.valueobject.OrderStatus;
 import com.api.order.core.domain.valueobject.PaymentMethod;
 import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.gateway.OrderArchive;
 import com.api.order.core.gateway.OrderGateway;
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -16,7 +17,8 @@ import org.junit.jupiter.api.Test;
 class SearchOrderTest {
 
   private final OrderGateway orderGateway = mock(OrderGateway.class);
-  private final SearchOrder searchOrder = new SearchOrder(orderGateway);
+  private final OrderArchive orderArchive = mock(OrderArchive.class);
+  private final SearchOrder searchOrder = new SearchOrder(orderGateway, orderArchive);
 
   @Test
   void shouldSearchOrderSuccessfully() {
@@ -41,6 +43,30 @@ class SearchOrderTest {
     assertThat(response.get()).usingRecursiveComparison().isEqualTo(expectedOrder);
 
     verify(orderGateway).findById(id);
+    verifyNoInteractions(orderArchive);
+  }
+
+  @Test
+  void shouldFallBackToArchiveWhenOrderIsNotInDatabase() {
+    final var id = "1";
+    final var archivedOrder =
+        new Order(
+            "1",
+            "BOLA-123-ABC",
+            10,
+            "12345678901",
+            OrderStatus.CLOSED_WITH_SUCCESS,
+            new PaymentDetails(
+                1, PaymentMethod.CREDIT_CARD, "1234567890123456", PaymentStatus.APPROVED),
+            BigDecimal.valueOf(1000.00),
+            true);
+
+    when(orderGateway.findById(id)).thenReturn(Optional.empty());
+    when(orderArchive.findById(id)).thenReturn(Optional.of(archivedOrder));
+
+    final var result = searchOrder.execute(id);
+
+    assertThat(result).contains(archivedOrder);
   }
 
   @Test
@@ -48,6 +74,7 @@ class SearchOrderTest {
     final var id = "1";
 
     when(orderGateway.findById(id)).thenReturn(Optional.empty());
+    when(orderArchive.findById(id)).thenReturn(Optional.empty());
 
     final var result = searchOrder.execute(id);
 
@@ -0,0 +1,120 @@
+package com.api.order.core.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.dto.OrderFilter;
+import com.api.order.core.dto.OrderStatusUpdateResult;
+import com.api.order.core.dto.OrderStatusUpdateResult.Outcome;
+import com.api.order.core.gateway.OrderGateway;
+import com.api.order.core.usecase.exception.BatchSizeExceededException;
+import com.api.order.core.usecase.exception.InvalidStatusUpdateException;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UpdateOrderStatusesTest {
+
+  private final OrderGateway orderGateway = mock(OrderGateway.class);
+  private final UpdateOrderStatuses updateOrderStatuses = new UpdateOrderStatuses(orderGateway);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(updateOrderStatuses, "chunkSize", 2);
+    ReflectionTestUtils.setField(updateOrderStatuses, "maxIds", 4);
+    when(orderGateway.updateStatuses(anyList(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final List<String> ids = invocation.getArgument(0);
+              return ids.stream()
+                  .map(id -> new OrderStatusUpdateResult(id, Outcome.UPDATED))
+                  .toList();
+            });
+  }
+
+  @Test
+  void shouldUpdateDistinctIdsInChunks() {
+    final var results =
+        updateOrderStatuses.execute(
+            List.of("order-1", "order-2", "order-1", "order-3"),
+            null,
+            OrderStatus.CLOSED_WITH_SUCCESS,
+            null);
+
+    assertThat(results)
+        .extracting(OrderStatusUpdateResult::id)
+        .containsExactly("order-1", "order-2", "order-3");
+    verify(orderGateway)
+        .updateStatuses(List.of("order-1", "order-2"), OrderStatus.CLOSED_WITH_SUCCESS, null);
+    verify(orderGateway).updateStatuses(List.of("order-3"), OrderStatus.CLOSED_WITH_SUCCESS, null);
+  }
+
+  @Test
+  void shouldSeekThroughOrdersMatchingFilter() {
+    final var filter = OrderFilter.builder().status(OrderStatus.OPEN).build();
+
+    when(orderGateway.findPage(filter, null, 2)).thenReturn(List.of(order("a"), order("b")));
+    when(orderGateway.findPage(filter, "b", 2)).thenReturn(List.of(order("c")));
+    when(orderGateway.findPage(filter, "c", 2)).thenReturn(List.of());
+
+    final var results = updateOrderStatuses.execute(null, filter, null, PaymentStatus.REFUNDED);
+
+    assertThat(results).extracting(OrderStatusUpdateResult::id).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  void shouldRejectFiltersMatchingMoreOrdersThanTheLimitBeforeUpdating() {
+    final var filter = OrderFilter.builder().status(OrderStatus.OPEN).build();
+
+    when(orderGateway.findPage(filter, null, 2)).thenReturn(List.of(order("a"), order("b")));
+    when(orderGateway.findPage(filter, "b", 2)).thenReturn(List.of(order("c"), order("d")));
+    when(orderGateway.findPage(filter, "d", 1)).thenReturn(List.of(order("e")));
+
+    assertThatThrownBy(
+            () -> updateOrderStatuses.execute(null, filter, null, PaymentStatus.REFUNDED))
+        .isInstanceOf(BatchSizeExceededException.class)
+        .hasMessage("Filter matches more than the limit of [4] orders, narrow it down.");
+    verify(orderGateway, never()).updateStatuses(anyList(), any(), any());
+  }
+
+  @Test
+  void shouldRejectRequestWithoutTargetOrSelection() {
+    assertThatThrownBy(() -> updateOrderStatuses.execute(List.of("order-1"), null, null, null))
+        .isInstanceOf(InvalidStatusUpdateException.class)
+        .hasMessage(InvalidStatusUpdateException.MISSING_TARGET);
+    assertThatThrownBy(() -> updateOrderStatuses.execute(List.of(), null, OrderStatus.OPEN, null))
+        .isInstanceOf(InvalidStatusUpdateException.class)
+        .hasMessage(InvalidStatusUpdateException.MISSING_SELECTION);
+  }
+
+  @Test
+  void shouldRejectTooManyIds() {
+    assertThatThrownBy(
+            () ->
+                updateOrderStatuses.execute(
+                    List.of("1", "2", "3", "4", "5"), null, OrderStatus.CLOSED_WITH_SUCCESS, null))
+        .isInstanceOf(BatchSizeExceededException.class);
+  }
+
+  private static Order order(final String id) {
+    return new Order(
+        id,
+        "BOLA-123-ABC",
+        1,
+        "12345678901",
+        OrderStatus.OPEN,
+        new PaymentDetails(1, PaymentMethod.CREDIT_CARD, "1234567890123456", PaymentStatus.PENDING),
+        BigDecimal.TEN,
+        false);
+  }
+}
@@ -0,0 +1,127 @@
+package com.api.order.entrypoint.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.api.order.core.usecase.HandleOrderEvents;
+import com.api.order.core.usecase.exception.OrderNotFoundException;
+import com.api.order.core.usecase.exception.OrderUpdateConflictException;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.StockReservedEvent;
+import com.api.order.infra.gateway.exception.GatewayException;
+import com.rabbitmq.client.Channel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+class RabbitMQBatchEventConsumerTest {
+
+  private final HandleOrderEvents handleOrderEvents = mock(HandleOrderEvents.class);
+  private final Channel channel = mock(Channel.class);
+  private final MessageRecoverer messageRecoverer = mock(MessageRecoverer.class);
+  private final RabbitMQBatchEventConsumer eventConsumer =
+      new RabbitMQBatchEventConsumer(
+          handleOrderEvents, new Jackson2JsonMessageConverter(), messageRecoverer);
+
+  @Test
+  void shouldAckAppliedEventsAndRejectPoisonOnes() throws Exception {
+    when(handleOrderEvents.handleStockReservedEvents(anyList())).thenReturn(List.of(1));
+
+    eventConsumer.consumeStockReservedEvents(
+        List.of(
+            message(1, "{\"orderId\":\"order-1\",\"success\":true}"),
+            message(2, "not json"),
+            message(3, "{\"orderId\":\"order-3\",\"success\":false}")),
+        channel);
+
+    verify(handleOrderEvents)
+        .handleStockReservedEvents(
+            List.of(
+                new StockReservedEvent("order-1", true), new StockReservedEvent("order-3", false)));
+    verify(channel).basicAck(1, false);
+    verify(channel).basicReject(2, false);
+    verify(channel).basicReject(3, false);
+    verifyNoMoreInteractions(channel);
+  }
+
+  @Test
+  void shouldRetryConflictingEventsInsteadOfParkingThem() throws Exception {
+    when(handleOrderEvents.handleStockReservedEvents(anyList()))
+        .thenThrow(new OrderUpdateConflictException("order-1", 3));
+    doThrow(new OrderUpdateConflictException("order-1", 3))
+        .when(handleOrderEvents)
+        .handleStockReservedEvent(new StockReservedEvent("order-1", true));
+    final var conflicting = message(1, "{\"orderId\":\"order-1\",\"success\":true}");
+
+    eventConsumer.consumeStockReservedEvents(List.of(conflicting), channel);
+
+    verify(messageRecoverer).recover(eq(conflicting), any(OrderUpdateConflictException.class));
+    verify(channel).basicAck(1, false);
+    verify(channel, never()).basicReject(anyLong(), anyBoolean());
+  }
+
+  @Test
+  void shouldFallBackToSingleMessagesWhenTheBatchFails() throws Exception {
+    when(handleOrderEvents.handlePaymentProcessedEvents(anyList()))
+        .thenThrow(new DataAccessResourceFailureException("deadlock"));
+    doThrow(new OrderNotFoundException("order-2"))
+        .when(handleOrderEvents)
+        .handlePaymentProcessedEvent(new PaymentProcessedEvent("order-2", true));
+    doThrow(new DataAccessResourceFailureException("connection reset"))
+        .when(handleOrderEvents)
+        .handlePaymentProcessedEvent(new PaymentProcessedEvent("order-3", true));
+    final var transientFailure = message(3, "{\"orderId\":\"order-3\",\"success\":true}");
+
+    eventConsumer.consumePaymentProcessedEvents(
+        List.of(
+            message(1, "{\"orderId\":\"order-1\",\"success\":true}"),
+            message(2, "{\"orderId\":\"order-2\",\"success\":true}"),
+            transientFailure),
+        channel);
+
+    verify(handleOrderEvents)
+        .handlePaymentProcessedEvent(new PaymentProcessedEvent("order-1", true));
+    verify(channel).basicAck(1, false);
+    verify(channel).basicReject(2, false);
+    verify(messageRecoverer).recover(eq(transientFailure), any());
+    verify(channel).basicAck(3, false);
+  }
+
+  @Test
+  void shouldRequeueWhenTheDelayedRetryCannotBeConfirmed() throws Exception {
+    when(handleOrderEvents.handleStockReservedEvents(any()))
+        .thenThrow(new DataAccessResourceFailureException("deadlock"));
+    doThrow(new DataAccessResourceFailureException("connection reset"))
+        .when(handleOrderEvents)
+        .handleStockReservedEvent(any());
+    doThrow(new GatewayException("not confirmed"))
+        .doNothing()
+        .when(messageRecoverer)
+        .recover(any(), any());
+
+    eventConsumer.consumeStockReservedEvents(
+        List.of(
+            message(1, "{\"orderId\":\"order-1\",\"success\":true}"),
+            message(2, "{\"orderId\":\"order-2\",\"success\":true}")),
+        channel);
+
+    verify(channel).basicReject(1, true);
+    verify(channel, never()).basicAck(1, false);
+    verify(channel).basicAck(2, false);
+  }
+
+  private static Message message(final long deliveryTag, final String body) {
+    final var properties = new MessageProperties();
+    properties.setDeliveryTag(deliveryTag);
+    properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+
+    return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+  }
+}
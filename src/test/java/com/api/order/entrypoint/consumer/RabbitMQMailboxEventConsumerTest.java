@@ -0,0 +1,151 @@
+package com.api.order.entrypoint.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.api.order.core.usecase.HandleOrderEvents;
+import com.api.order.core.usecase.exception.OrderNotFoundException;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.StockReservedEvent;
+import com.api.order.infra.gateway.exception.GatewayException;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+class RabbitMQMailboxEventConsumerTest {
+
+  private final HandleOrderEvents handleOrderEvents = mock(HandleOrderEvents.class);
+  private final Channel channel = mock(Channel.class);
+  private final MessageRecoverer messageRecoverer = mock(MessageRecoverer.class);
+  private final OrderMailboxes orderMailboxes = new OrderMailboxes(2, 1);
+  private final RabbitMQMailboxEventConsumer eventConsumer =
+      new RabbitMQMailboxEventConsumer(
+          handleOrderEvents, orderMailboxes, new Jackson2JsonMessageConverter(), messageRecoverer);
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    orderMailboxes.close();
+  }
+
+  @Test
+  void shouldAckOnlyAfterTheMailboxHandledTheEvent() throws Exception {
+    doThrow(new OrderNotFoundException("order-2"))
+        .when(handleOrderEvents)
+        .handlePaymentProcessedEvent(new PaymentProcessedEvent("order-2", true));
+
+    eventConsumer.consumeStockReservedEvent(message(1, "not json"), channel);
+    eventConsumer.consumeStockReservedEvent(
+        message(2, "{\"orderId\":\"order-1\",\"success\":true}"), channel);
+    eventConsumer.consumePaymentProcessedEvent(
+        message(3, "{\"orderId\":\"order-2\",\"success\":true}"), channel);
+
+    verify(channel).basicReject(1, false);
+    verify(channel, timeout(1000)).basicAck(2, false);
+    verify(channel, timeout(1000)).basicReject(3, false);
+    verify(handleOrderEvents).handleStockReservedEvent(new StockReservedEvent("order-1", true));
+  }
+
+  @Test
+  void shouldRequeueWhenTheDelayedRetryFails() throws Exception {
+    doThrow(new DataAccessResourceFailureException("connection reset"))
+        .when(handleOrderEvents)
+        .handleStockReservedEvent(any());
+    doThrow(new GatewayException("not confirmed")).when(messageRecoverer).recover(any(), any());
+
+    eventConsumer.consumeStockReservedEvent(
+        message(1, "{\"orderId\":\"order-1\",\"success\":true}"), channel);
+
+    verify(channel, timeout(1000)).basicReject(1, true);
+    verify(channel, never()).basicAck(1, false);
+  }
+
+  @Test
+  void shouldRequeueWhenTheAckCannotBeSent() throws Exception {
+    doThrow(new IOException("channel closed")).when(channel).basicAck(1, false);
+
+    eventConsumer.consumeStockReservedEvent(
+        message(1, "{\"orderId\":\"order-1\",\"success\":true}"), channel);
+
+    verify(channel, timeout(1000)).basicReject(1, true);
+  }
+
+  @Test
+  void shouldRunEventsOfTheSameOrderInSequence() throws Exception {
+    final var stockHandled = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              stockHandled.countDown();
+              release.await();
+              return null;
+            })
+        .when(handleOrderEvents)
+        .handleStockReservedEvent(new StockReservedEvent("order-1", true));
+
+    eventConsumer.consumeStockReservedEvent(
+        message(1, "{\"orderId\":\"order-1\",\"success\":true}"), channel);
+    assertThat(stockHandled.await(1, TimeUnit.SECONDS)).isTrue();
+    eventConsumer.consumePaymentProcessedEvent(
+        message(2, "{\"orderId\":\"order-1\",\"success\":true}"), channel);
+
+    verify(handleOrderEvents, after(200).never())
+        .handlePaymentProcessedEvent(new PaymentProcessedEvent("order-1", true));
+
+    release.countDown();
+
+    final var inOrder = inOrder(channel);
+    inOrder.verify(channel, timeout(1000)).basicAck(1, false);
+    inOrder.verify(channel, timeout(1000)).basicAck(2, false);
+  }
+
+  @Test
+  void shouldBlockTheListenerWhileTheMailboxIsFull() throws Exception {
+    final var release = new CountDownLatch(1);
+    orderMailboxes.submit("order-1", () -> await(release));
+    orderMailboxes.submit("order-1", () -> {});
+
+    final var blocked =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                orderMailboxes.submit("order-1", () -> {});
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+
+    assertThat(blocked).isNotCompleted();
+    TimeUnit.MILLISECONDS.sleep(200);
+    assertThat(blocked).isNotCompleted();
+
+    release.countDown();
+    blocked.get(1, TimeUnit.SECONDS);
+  }
+
+  private static Message message(final long deliveryTag, final String body) {
+    final var properties = new MessageProperties();
+    properties.setDeliveryTag(deliveryTag);
+    properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+
+    return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.api.order.entrypoint.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.dto.OrderBatchItemResult;
+import com.api.order.core.dto.OrderDto;
+import com.api.order.core.usecase.CreateOrder;
+import com.api.order.core.usecase.CreateOrderBatch;
+import com.api.order.core.usecase.exception.ProductNotFoundException;
+import com.rabbitmq.client.Channel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+class RabbitMQOrderIngestionConsumerTest {
+
+  private final CreateOrderBatch createOrderBatch = mock(CreateOrderBatch.class);
+  private final CreateOrder createOrder = mock(CreateOrder.class);
+  private final Channel channel = mock(Channel.class);
+  private final MessageRecoverer messageRecoverer = mock(MessageRecoverer.class);
+  private final RabbitMQOrderIngestionConsumer ingestionConsumer =
+      new RabbitMQOrderIngestionConsumer(
+          createOrderBatch, createOrder, new Jackson2JsonMessageConverter(), messageRecoverer);
+
+  @Test
+  void shouldAckCreatedOrdersAfterTheBatchAndIsolateFailedOnes() throws Exception {
+    when(createOrderBatch.execute(anyList()))
+        .thenReturn(
+            List.of(
+                OrderBatchItemResult.created(0, mock(Order.class)),
+                OrderBatchItemResult.failed(1, "Product with sku=[SEM-PRECO-1] not found.")));
+    when(createOrder.execute(any())).thenThrow(new ProductNotFoundException("SEM-PRECO-1"));
+
+    ingestionConsumer.consumeOrderReceivedEvents(
+        List.of(message(1, "BOLA-123-ABC"), message(2, "SEM-PRECO-1"), unreadable(3)), channel);
+
+    final ArgumentCaptor<List<OrderDto>> requestsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(createOrderBatch).execute(requestsCaptor.capture());
+    assertThat(requestsCaptor.getValue())
+        .extracting(OrderDto::productSku)
+        .containsExactly("BOLA-123-ABC", "SEM-PRECO-1");
+    verify(createOrder).execute(any());
+    verify(channel).basicAck(1, false);
+    verify(channel).basicReject(2, false);
+    verify(channel).basicReject(3, false);
+    verifyNoMoreInteractions(channel);
+  }
+
+  @Test
+  void shouldFallBackToSingleOrdersWhenTheBatchFails() throws Exception {
+    when(createOrderBatch.execute(anyList()))
+        .thenThrow(new DataAccessResourceFailureException("connection reset"));
+    when(createOrder.execute(any()))
+        .thenReturn(mock(Order.class))
+        .thenThrow(new DataAccessResourceFailureException("connection reset"));
+    final var transientFailure = message(2, "CAMISA-456");
+
+    ingestionConsumer.consumeOrderReceivedEvents(
+        List.of(message(1, "BOLA-123-ABC"), transientFailure), channel);
+
+    verify(createOrder, times(2)).execute(any());
+    verify(channel).basicAck(1, false);
+    verify(messageRecoverer).recover(eq(transientFailure), any());
+    verify(channel).basicAck(2, false);
+  }
+
+  private static Message message(final long deliveryTag, final String productSku) {
+    return body(
+        deliveryTag,
+        "{\"productSku\":\""
+            + productSku
+            + "\",\"productQuantity\":1,\"clientCpf\":\"12345678901\","
+            + "\"paymentMethod\":\"CREDIT_CARD\",\"cardNumber\":\"1234567890123456\"}");
+  }
+
+  private static Message unreadable(final long deliveryTag) {
+    return body(deliveryTag, "not json");
+  }
+
+  private static Message body(final long deliveryTag, final String body) {
+    final var properties = new MessageProperties();
+    properties.setDeliveryTag(deliveryTag);
+    properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+
+    return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+  }
+}
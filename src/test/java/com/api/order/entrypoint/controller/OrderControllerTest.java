@@ -1,7 +1,9 @@
 package com.api.order.entrypoint.controller;
 
 import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -11,18 +13,36 @@ import com.api.order.core.domain.PaymentDetails;
 import com.api.order.core.domain.valueobject.OrderStatus;
 import com.api.order.core.domain.valueobject.PaymentMethod;
 import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.dto.OrderBatchItemResult;
 import com.api.order.core.dto.OrderDto;
+import com.api.order.core.dto.OrderFilter;
+import com.api.order.core.dto.OrderPage;
+import com.api.order.core.dto.OrderStatusUpdateResult;
+import com.api.order.core.dto.OrderStatusUpdateResult.Outcome;
 import com.api.order.core.dto.PaymentDetailsDto;
 import com.api.order.core.usecase.CreateOrder;
+import com.api.order.core.usecase.CreateOrderBatch;
 import com.api.order.core.usecase.DeleteOrder;
+import com.api.order.core.usecase.ExportOrders;
+import com.api.order.core.usecase.ListOrders;
 import com.api.order.core.usecase.SearchOrder;
+import com.api.order.core.usecase.UpdateOrderStatuses;
+import com.api.order.core.usecase.exception.OrderArchivedException;
 import com.api.order.presenter.ErrorPresenter;
 import com.api.order.presenter.OrderPresenter;
+import com.api.order.presenter.response.OrderBatchItemPresenterResponse;
+import com.api.order.presenter.response.OrderPagePresenterResponse;
 import com.api.order.presenter.response.OrderPresenterResponse;
+import com.api.order.presenter.response.OrderStatusUpdatePresenterResponse;
 import com.api.order.presenter.response.PaymentDetailsPresenterResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -47,7 +67,11 @@ class OrderControllerTest {
   @Autowired private ObjectMapper objectMapper;
 
   @MockitoBean private CreateOrder createOrder;
+  @MockitoBean private CreateOrderBatch createOrderBatch;
   @MockitoBean private SearchOrder searchOrder;
+  @MockitoBean private ListOrders listOrders;
+  @MockitoBean private ExportOrders exportOrders;
+  @MockitoBean private UpdateOrderStatuses updateOrderStatuses;
   @MockitoBean private DeleteOrder deleteOrder;
   @MockitoBean private OrderPresenter presenter;
   @MockitoBean private ErrorPresenter errorPresenter;
@@ -107,6 +131,94 @@ class OrderControllerTest {
                 .value(response.getPaymentDetails().getCardNumber()));
   }
 
+  @Test
+  void shouldCreateOrderBatchSuccessfully() throws Exception {
+    final var request =
+        OrderDto.builder()
+            .productSku("BOLA-123-ABC")
+            .productQuantity(10)
+            .clientCpf("12345678901")
+            .paymentDetails(new PaymentDetailsDto("CREDIT_CARD", "1234567890123456"))
+            .build();
+    final var order =
+        new Order(
+            "1",
+            "BOLA-123-ABC",
+            10,
+            "12345678901",
+            OrderStatus.OPEN,
+            new PaymentDetails(
+                1, PaymentMethod.CREDIT_CARD, "1234567890123456", PaymentStatus.PENDING),
+            BigDecimal.valueOf(100),
+            false);
+    final var results =
+        List.of(
+            OrderBatchItemResult.created(0, order),
+            OrderBatchItemResult.failed(1, "Product with sku=[BOLA-123-ABC] not found."));
+    final var presenterResponse =
+        List.of(
+            OrderBatchItemPresenterResponse.builder()
+                .index(0)
+                .status("CREATED")
+                .order(
+                    OrderPresenterResponse.builder()
+                        .id(order.getId())
+                        .productSku(order.getProductSku())
+                        .build())
+                .build(),
+            OrderBatchItemPresenterResponse.builder()
+                .index(1)
+                .status("FAILED")
+                .errorMessage("Product with sku=[BOLA-123-ABC] not found.")
+                .build());
+
+    when(createOrderBatch.execute(anyList())).thenReturn(results);
+    when(presenter.parseToBatchResponse(results)).thenReturn(presenterResponse);
+
+    mockMvc
+        .perform(
+            post(BASE_URL + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(request, request))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].status").value("CREATED"))
+        .andExpect(jsonPath("$[0].order.id").value(order.getId()))
+        .andExpect(jsonPath("$[1].status").value("FAILED"))
+        .andExpect(
+            jsonPath("$[1].errorMessage").value("Product with sku=[BOLA-123-ABC] not found."));
+
+    verify(createOrderBatch).execute(argThat(orders -> orders.size() == 2));
+  }
+
+  @Test
+  void shouldPassInvalidBatchItemsThroughForPerItemResults() throws Exception {
+    final var results =
+        List.of(
+            OrderBatchItemResult.failed(0, "Field=[payment_details] should not be empty or null"));
+    final var presenterResponse =
+        List.of(
+            OrderBatchItemPresenterResponse.builder()
+                .index(0)
+                .status("FAILED")
+                .errorMessage("Field=[payment_details] should not be empty or null")
+                .build());
+
+    when(createOrderBatch.execute(anyList())).thenReturn(results);
+    when(presenter.parseToBatchResponse(results)).thenReturn(presenterResponse);
+
+    mockMvc
+        .perform(
+            post(BASE_URL + "/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    "[{\"productSku\":\"BOLA-123-ABC\",\"productQuantity\":1,"
+                        + "\"clientCpf\":\"12345678901\"}]"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].status").value("FAILED"));
+
+    verify(createOrderBatch).execute(argThat(orders -> orders.getFirst().paymentDetails() == null));
+  }
+
   @Test
   void shouldSearchOrderSuccessfully() throws Exception {
     final var id = "1";
@@ -153,6 +265,126 @@ class OrderControllerTest {
                 .value(response.getPaymentDetails().getCardNumber()));
   }
 
+  @Test
+  void shouldListOrdersWithFiltersAndCursor() throws Exception {
+    final var filter =
+        OrderFilter.builder().status(OrderStatus.OPEN).clientCpf("12345678901").build();
+    final var page = new OrderPage(List.of(), "order-200");
+    final var presenterResponse =
+        OrderPagePresenterResponse.builder().orders(List.of()).nextCursor("order-200").build();
+
+    when(listOrders.execute(filter, "order-100", 100)).thenReturn(page);
+    when(presenter.parseToPageResponse(page)).thenReturn(presenterResponse);
+
+    mockMvc
+        .perform(
+            get(BASE_URL)
+                .param("status", "open")
+                .param("clientCpf", "12345678901")
+                .param("after", "order-100")
+                .param("limit", "100"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.orders").isEmpty())
+        .andExpect(jsonPath("$.nextCursor").value("order-200"));
+  }
+
+  @Test
+  void shouldStreamGzippedNdjsonExport() throws Exception {
+    doAnswer(
+            invocation -> {
+              final OutputStream outputStream = invocation.getArgument(1);
+              outputStream.write("{\"id\":\"1\"}\n".getBytes(StandardCharsets.UTF_8));
+              return null;
+            })
+        .when(exportOrders)
+        .execute(any(), any());
+
+    final var asyncResult =
+        mockMvc
+            .perform(
+                get(BASE_URL + "/export")
+                    .param("status", "OPEN")
+                    .param("from", "2026-01-01T00:00:00Z")
+                    .header("Accept-Encoding", "gzip"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    final var result =
+        mockMvc
+            .perform(asyncDispatch(asyncResult))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn();
+
+    try (final var gzip =
+        new GZIPInputStream(
+            new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+      assertThat(new String(gzip.readAllBytes())).isEqualTo("{\"id\":\"1\"}\n");
+    }
+
+    verify(exportOrders)
+        .execute(
+            argThat(
+                filter ->
+                    filter.status() == OrderStatus.OPEN
+                        && filter.createdFrom().toString().equals("2026-01-01T00:00:00Z")),
+            any());
+  }
+
+  @Test
+  void shouldNotGzipTheExportWhenTheClientRefusesIt() throws Exception {
+    doAnswer(
+            invocation -> {
+              final OutputStream outputStream = invocation.getArgument(1);
+              outputStream.write("{\"id\":\"1\"}\n".getBytes(StandardCharsets.UTF_8));
+              return null;
+            })
+        .when(exportOrders)
+        .execute(any(), any());
+
+    final var asyncResult =
+        mockMvc
+            .perform(get(BASE_URL + "/export").header("Accept-Encoding", "br, gzip;q=0, *;q=0.5"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist("Content-Encoding"))
+        .andExpect(content().string("{\"id\":\"1\"}\n"));
+  }
+
+  @Test
+  void shouldBulkUpdateOrderStatuses() throws Exception {
+    final var results =
+        List.of(
+            new OrderStatusUpdateResult("order-1", Outcome.UPDATED),
+            new OrderStatusUpdateResult("order-2", Outcome.ILLEGAL_TRANSITION));
+    final var presenterResponse =
+        List.of(
+            new OrderStatusUpdatePresenterResponse("order-1", "UPDATED"),
+            new OrderStatusUpdatePresenterResponse("order-2", "ILLEGAL_TRANSITION"));
+
+    when(updateOrderStatuses.execute(
+            List.of("order-1", "order-2"), null, OrderStatus.CLOSED_WITHOUT_STOCK, null))
+        .thenReturn(results);
+    when(presenter.parseToStatusUpdateResponse(results)).thenReturn(presenterResponse);
+
+    mockMvc
+        .perform(
+            patch(BASE_URL + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    """
+                    {"ids": ["order-1", "order-2"], "orderStatus": "CLOSED_WITHOUT_STOCK"}
+                    """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].outcome").value("UPDATED"))
+        .andExpect(jsonPath("$[1].outcome").value("ILLEGAL_TRANSITION"));
+  }
+
   @Test
   void shouldReturnNotFoundWhenOrderDoesNotExist() throws Exception {
     final var id = "order-123";
@@ -170,4 +402,16 @@ class OrderControllerTest {
 
     mockMvc.perform(delete(format(BASE_URL_WITH_ID, id))).andExpect(status().isNoContent());
   }
+
+  @Test
+  void shouldAnswerGoneWhenDeletingAnArchivedOrder() throws Exception {
+    final var id = "order-archived";
+
+    doThrow(new OrderArchivedException(id)).when(deleteOrder).execute(id);
+
+    mockMvc
+        .perform(delete(format(BASE_URL_WITH_ID, id)))
+        .andExpect(status().isGone())
+        .andExpect(jsonPath("$.error").value("GONE"));
+  }
 }
@@ -0,0 +1,234 @@
+package com.api.order.infra.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.api.order.config.ClockConfig;
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import com.api.order.core.dto.OrderFilter;
+import com.api.order.core.dto.OrderStatusUpdateResult;
+import com.api.order.core.dto.OrderStatusUpdateResult.Outcome;
+import com.api.order.infra.gateway.cache.OrderCache;
+import com.api.order.infra.gateway.id.UuidV7OrderIdGenerator;
+import com.api.order.infra.persistence.entity.PaymentDetailsEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(
+    properties = {
+      "spring.jpa.properties.hibernate.generate_statistics=true",
+      "spring.jpa.properties.hibernate.connection.provider_disables_autocommit=false"
+    })
+@Import({
+  OrderGatewayImpl.class,
+  OrderCache.class,
+  UuidV7OrderIdGenerator.class,
+  ClockConfig.class,
+  SimpleMeterRegistry.class
+})
+class OrderGatewayImplTest {
+
+  @Autowired private OrderGatewayImpl orderGateway;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private TestEntityManager entityManager;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  void shouldLoadOrderWithPaymentDetailsInASingleStatement() {
+    final var order = persistedOrder();
+
+    final var found = orderGateway.findById(order.getId());
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(found)
+        .hasValueSatisfying(
+            it -> {
+              assertThat(it.getPaymentDetails().getId())
+                  .isEqualTo(order.getPaymentDetails().getId());
+              assertThat(it.getPaymentDetails().getCardNumber()).isEqualTo("1234567890123456");
+            });
+  }
+
+  @Test
+  void shouldSeekPagesInIdOrderWithFetchedPaymentDetails() {
+    final var first = persistedOrder();
+    final var second = persistedOrder();
+    final var third = persistedOrder();
+    transition(second.getId(), order -> order.changeOrderStatus(OrderStatus.CLOSED_WITH_SUCCESS));
+
+    final var filter = OrderFilter.builder().status(OrderStatus.OPEN).build();
+    final var page = orderGateway.findPage(filter, first.getId(), 10);
+
+    assertThat(page).extracting(Order::getId).containsExactly(third.getId());
+    assertThat(page.getFirst().getPaymentDetails().getCardNumber()).isEqualTo("1234567890123456");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(orderGateway.findPage(OrderFilter.builder().build(), null, 2))
+        .extracting(Order::getId)
+        .containsExactly(first.getId(), second.getId());
+  }
+
+  @Test
+  void shouldLockOrdersAndWriteThemBackInOneBatchPerTable() {
+    final var ids = List.of(persistedOrder().getId(), persistedOrder().getId());
+
+    final var locked = orderGateway.findAllForUpdate(ids);
+    orderGateway.updateAll(
+        locked.stream()
+            .map(order -> order.setStockReserved(true).updatePaymentStatus(PaymentStatus.APPROVED))
+            .toList());
+
+    assertThat(locked).hasSize(2);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    assertThat(orderGateway.findById(ids.getLast()))
+        .hasValueSatisfying(
+            found -> {
+              assertThat(found.isStockReserved()).isTrue();
+              assertThat(found.getPaymentDetails().getStatus()).isEqualTo(PaymentStatus.APPROVED);
+              assertThat(found.getVersion()).isEqualTo(locked.getLast().getVersion() + 1);
+            });
+  }
+
+  @Test
+  void shouldApplyTransitionOnlyAgainstTheExpectedVersion() {
+    final var order = orderGateway.findById(persistedOrder().getId()).orElseThrow();
+    final var target = order.updatePaymentStatus(PaymentStatus.REJECTED);
+
+    assertThat(orderGateway.transition(order, target)).isTrue();
+    assertThat(orderGateway.transition(order, target)).isFalse();
+    assertThat(orderGateway.findById(order.getId()))
+        .hasValueSatisfying(
+            found -> {
+              assertThat(found.getVersion()).isEqualTo(order.getVersion() + 1);
+              assertThat(found.getPaymentDetails().getStatus()).isEqualTo(PaymentStatus.REJECTED);
+            });
+  }
+
+  @Test
+  void shouldFindClosedOrdersAndDeleteThemWithPaymentDetails() {
+    final var open = persistedOrder();
+    final var closed = persistedOrder();
+    transition(closed.getId(), order -> order.changeOrderStatus(OrderStatus.CLOSED_WITHOUT_CREDIT));
+
+    final var archivable = orderGateway.findClosedBefore(Instant.now().plusSeconds(60), 10);
+
+    assertThat(archivable).extracting(Order::getId).containsExactly(closed.getId());
+    assertThat(orderGateway.findClosedBefore(Instant.now().minusSeconds(60), 10)).isEmpty();
+    assertThat(orderGateway.deleteAll(archivable)).isEqualTo(1);
+    assertThat(orderGateway.findById(closed.getId())).isEmpty();
+    assertThat(orderGateway.findById(open.getId())).isPresent();
+    assertThat(
+            entityManager.find(
+                PaymentDetailsEntity.class, archivable.getFirst().getPaymentDetails().getId()))
+        .isNull();
+  }
+
+  @Test
+  void shouldBulkUpdateOnlyLegalTransitionsAndReportEachId() {
+    final var open = persistedOrder();
+    final var approved = persistedOrder();
+    final var closed = persistedOrder();
+    transition(approved.getId(), order -> order.updatePaymentStatus(PaymentStatus.APPROVED));
+    transition(closed.getId(), order -> order.changeOrderStatus(OrderStatus.CLOSED_WITHOUT_STOCK));
+
+    final var results =
+        orderGateway.updateStatuses(
+            List.of(open.getId(), approved.getId(), closed.getId(), "missing"),
+            OrderStatus.CLOSED_WITHOUT_CREDIT,
+            PaymentStatus.REJECTED);
+
+    assertThat(results)
+        .extracting(OrderStatusUpdateResult::outcome)
+        .containsExactly(
+            Outcome.UPDATED,
+            Outcome.ILLEGAL_TRANSITION,
+            Outcome.ILLEGAL_TRANSITION,
+            Outcome.NOT_FOUND);
+    assertThat(orderGateway.findById(open.getId()))
+        .hasValueSatisfying(
+            it -> {
+              assertThat(it.getStatus()).isEqualTo(OrderStatus.CLOSED_WITHOUT_CREDIT);
+              assertThat(it.getPaymentDetails().getStatus()).isEqualTo(PaymentStatus.REJECTED);
+            });
+    assertThat(orderGateway.findById(approved.getId()))
+        .hasValueSatisfying(it -> assertThat(it.getStatus()).isEqualTo(OrderStatus.OPEN));
+  }
+
+  @Test
+  void shouldFailStaleTransitionsAfterAPaymentOnlyBulkUpdate() {
+    final var order = orderGateway.findById(persistedOrder().getId()).orElseThrow();
+
+    orderGateway.updateStatuses(List.of(order.getId()), null, PaymentStatus.APPROVED);
+    entityManager.clear();
+
+    assertThat(orderGateway.transition(order, order.updatePaymentStatus(PaymentStatus.REJECTED)))
+        .isFalse();
+    assertThat(orderGateway.findById(order.getId()))
+        .hasValueSatisfying(
+            found -> {
+              assertThat(found.getVersion()).isEqualTo(order.getVersion() + 1);
+              assertThat(found.getPaymentDetails().getStatus()).isEqualTo(PaymentStatus.APPROVED);
+            });
+  }
+
+  @Test
+  void shouldSoftDeleteWithASingleStatementAndPurgeLater() {
+    final var order = persistedOrder();
+
+    assertThat(orderGateway.delete(order.getId())).isTrue();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(orderGateway.delete(order.getId())).isFalse();
+    assertThat(orderGateway.findById(order.getId())).isEmpty();
+    assertThat(orderGateway.purgeDeleted(Instant.now().minusSeconds(60), 10)).isZero();
+
+    assertThat(orderGateway.purgeDeleted(Instant.now().plusSeconds(60), 10)).isEqualTo(1);
+    assertThat(entityManager.find(PaymentDetailsEntity.class, order.getPaymentDetails().getId()))
+        .isNull();
+  }
+
+  private void transition(final String id, final UnaryOperator<Order> change) {
+    final var order = orderGateway.findById(id).orElseThrow();
+    assertThat(orderGateway.transition(order, change.apply(order))).isTrue();
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+  }
+
+  private Order persistedOrder() {
+    final var order = orderGateway.save(newOrder());
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+
+    return order;
+  }
+
+  private static Order newOrder() {
+    return Order.createOrder(
+        "BOLA-123-ABC",
+        2,
+        "12345678901",
+        PaymentDetails.createPaymentDetails(PaymentMethod.CREDIT_CARD, "1234567890123456"),
+        BigDecimal.TEN);
+  }
+}
@@ -0,0 +1,135 @@
+package com.api.order.infra.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.api.order.infra.gateway.exception.GatewayException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+class ProductApiGatewayAdapterTest {
+
+  private static final String BASE_URL = "http://product/api/products";
+
+  private final AtomicInteger calls = new AtomicInteger();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void shouldCachePriceAfterFirstCall() {
+    final var adapter = adapter("{\"sku\":\"BOLA-123-ABC\",\"price\":100.00}", Duration.ZERO);
+
+    final var first = adapter.getProductPrice("BOLA-123-ABC");
+    final var second = adapter.getProductPrice("BOLA-123-ABC");
+
+    assertThat(first).isEqualByComparingTo(BigDecimal.valueOf(100));
+    assertThat(second).isEqualByComparingTo(BigDecimal.valueOf(100));
+    assertThat(calls).hasValue(1);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldShareInFlightRequestForConcurrentMisses() throws Exception {
+    final var adapter =
+        adapter("{\"sku\":\"BOLA-123-ABC\",\"price\":100.00}", Duration.ofMillis(200));
+    final var start = new CountDownLatch(1);
+
+    try (final var executor = Executors.newFixedThreadPool(8)) {
+      final var futures =
+          IntStream.range(0, 8)
+              .mapToObj(
+                  i ->
+                      CompletableFuture.supplyAsync(
+                          () -> {
+                            await(start);
+                            return adapter.getProductPrice("BOLA-123-ABC");
+                          },
+                          executor))
+              .toList();
+
+      start.countDown();
+
+      for (final var future : futures) {
+        assertThat(future.get()).isEqualByComparingTo(BigDecimal.valueOf(100));
+      }
+    }
+
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void shouldReturnPriceAsynchronously() {
+    final var adapter =
+        adapter("{\"sku\":\"BOLA-123-ABC\",\"price\":100.00}", Duration.ofMillis(50));
+
+    final var future = adapter.getProductPriceAsync("BOLA-123-ABC");
+
+    assertThat(future.join()).isEqualByComparingTo(BigDecimal.valueOf(100));
+    assertThat(adapter.getProductPriceAsync("BOLA-123-ABC")).isCompleted();
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void shouldCompleteAsyncLookupExceptionallyWhenPriceIsMissing() {
+    final var adapter = adapter("{\"sku\":\"BOLA-123-ABC\"}", Duration.ZERO);
+
+    assertThat(adapter.getProductPriceAsync("BOLA-123-ABC"))
+        .failsWithin(Duration.ofSeconds(1))
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(GatewayException.class);
+  }
+
+  @Test
+  void shouldThrowGatewayExceptionWhenPriceIsMissing() {
+    final var adapter = adapter("{\"sku\":\"BOLA-123-ABC\"}", Duration.ZERO);
+
+    assertThatThrownBy(() -> adapter.getProductPrice("BOLA-123-ABC"))
+        .isInstanceOf(GatewayException.class)
+        .hasMessage("Failed to access Product API=[Product or price not found]");
+  }
+
+  private ProductApiGatewayAdapter adapter(final String body, final Duration delay) {
+    final var webClient =
+        WebClient.builder()
+            .baseUrl(BASE_URL)
+            .exchangeFunction(
+                request -> {
+                  assertThat(request.url().toString()).isEqualTo(BASE_URL + "/BOLA-123-ABC");
+                  calls.incrementAndGet();
+                  return Mono.just(
+                          ClientResponse.create(HttpStatus.OK)
+                              .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                              .body(body)
+                              .build())
+                      .delayElement(delay);
+                })
+            .build();
+
+    return new ProductApiGatewayAdapter(
+        100, Duration.ofMinutes(5), Duration.ofMinutes(1), webClient, meterRegistry);
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
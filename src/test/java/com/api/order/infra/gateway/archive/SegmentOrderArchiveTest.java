@@ -0,0 +1,89 @@
+package com.api.order.infra.gateway.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SegmentOrderArchiveTest {
+
+  @TempDir private Path directory;
+
+  @Test
+  void shouldFindArchivedOrdersAcrossBlocksAndSegments() {
+    final var archive = new SegmentOrderArchive(directory, 4, Clock.systemUTC());
+
+    archive.append(IntStream.range(0, 10).map(i -> 9 - i).mapToObj(i -> order(i * 2)).toList());
+    archive.append(IntStream.range(0, 3).mapToObj(i -> order(i * 2 + 1)).toList());
+
+    assertThat(archive.findById(id(0))).hasValueSatisfying(it -> assertSameOrder(it, 0));
+    assertThat(archive.findById(id(10))).hasValueSatisfying(it -> assertSameOrder(it, 10));
+    assertThat(archive.findById(id(18))).hasValueSatisfying(it -> assertSameOrder(it, 18));
+    assertThat(archive.findById(id(3))).hasValueSatisfying(it -> assertSameOrder(it, 3));
+    assertThat(archive.findById(id(7))).isEmpty();
+    assertThat(archive.findById(id(99))).isEmpty();
+  }
+
+  @Test
+  void shouldReopenExistingSegmentsOnStartup() throws Exception {
+    new SegmentOrderArchive(directory, 4, Clock.systemUTC()).append(List.of(order(5)));
+
+    final var reopened = new SegmentOrderArchive(directory, 4, Clock.systemUTC());
+
+    assertThat(reopened.findById(id(5))).hasValueSatisfying(it -> assertSameOrder(it, 5));
+    try (final var files = Files.list(directory)) {
+      assertThat(files.map(path -> path.getFileName().toString()))
+          .noneMatch(name -> name.endsWith(".tmp"))
+          .hasSize(2);
+    }
+  }
+
+  @Test
+  void shouldOpenLazilyAndSkipTornSegments() throws Exception {
+    final var archiveDirectory = directory.resolve("archive");
+    final var archive = new SegmentOrderArchive(archiveDirectory, 4, Clock.systemUTC());
+
+    assertThat(archive.findById(id(5))).isEmpty();
+    assertThat(archiveDirectory).doesNotExist();
+
+    archive.append(List.of(order(5)));
+    Files.write(archiveDirectory.resolve("segment-9999999999999-0001.idx"), new byte[] {1, 2});
+
+    final var reopened = new SegmentOrderArchive(archiveDirectory, 4, Clock.systemUTC());
+
+    assertThat(reopened.findById(id(5))).hasValueSatisfying(it -> assertSameOrder(it, 5));
+  }
+
+  private static void assertSameOrder(final Order order, final int number) {
+    assertThat(order).usingRecursiveComparison().isEqualTo(order(number));
+  }
+
+  private static String id(final int number) {
+    return "order-%04d".formatted(number);
+  }
+
+  private static Order order(final int number) {
+    return new Order(
+        id(number),
+        "BOLA-123-ABC",
+        number + 1,
+        "12345678901",
+        OrderStatus.CLOSED_WITH_SUCCESS,
+        new PaymentDetails(
+            number, PaymentMethod.CREDIT_CARD, "1234567890123456", PaymentStatus.APPROVED),
+        new BigDecimal("10.50"),
+        true,
+        3L);
+  }
+}
@@ -0,0 +1,165 @@
+package com.api.order.infra.gateway.bus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import com.api.order.event.ProcessPaymentEvent;
+import com.api.order.event.ReserveStockEvent;
+import com.api.order.event.StockReservedEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class InProcessEventBusTest {
+
+  private final List<List<StockReservedEvent>> batches = new CopyOnWriteArrayList<>();
+  private InProcessEventBus eventBus;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    if (eventBus != null) {
+      eventBus.close();
+    }
+  }
+
+  @Test
+  void shouldDispatchEventsInBatchesKeepingOrderPerOrderId() throws InterruptedException {
+    final var handled = new CountDownLatch(100);
+    eventBus =
+        bus(
+            4,
+            LocalEventHandler.of(
+                StockReservedEvent.class,
+                event -> {},
+                events -> {
+                  batches.add(List.copyOf(events));
+                  events.forEach(event -> handled.countDown());
+                }));
+    final var events =
+        IntStream.range(0, 100)
+            .mapToObj(i -> new StockReservedEvent("order-" + i % 3, i % 2 == 0))
+            .toList();
+
+    eventBus.publishAll(events);
+
+    assertThat(handled.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(batches.size()).isLessThan(100);
+    for (final var orderId : List.of("order-0", "order-1", "order-2")) {
+      assertThat(batches.stream().flatMap(List::stream).filter(e -> e.orderId().equals(orderId)))
+          .containsExactlyElementsOf(
+              events.stream().filter(e -> e.orderId().equals(orderId)).toList());
+    }
+    assertThat(eventBus.pending()).isZero();
+  }
+
+  @Test
+  void shouldHandleRepliesPublishedFromAConsumerInOrderWhenTheRingIsFull()
+      throws InterruptedException {
+    final var replies = new CountDownLatch(200);
+    final var replied = new CopyOnWriteArrayList<String>();
+    final var insideStockModule = new AtomicBoolean();
+    final var nestedReplies = new AtomicInteger();
+    final LocalEventHandler<ReserveStockEvent> stockModule =
+        LocalEventHandler.of(
+            ReserveStockEvent.class,
+            event -> {
+              insideStockModule.set(true);
+              eventBus.publish(new StockReservedEvent("order-" + event.quantity(), true));
+              insideStockModule.set(false);
+            });
+    eventBus =
+        bus(
+            1,
+            stockModule,
+            LocalEventHandler.of(
+                StockReservedEvent.class,
+                event -> {
+                  if (insideStockModule.get()) {
+                    nestedReplies.incrementAndGet();
+                  }
+                  replied.add(event.orderId());
+                  replies.countDown();
+                }));
+
+    eventBus.publishAll(
+        IntStream.range(0, 200).mapToObj(i -> new ReserveStockEvent("order-1", "SKU", i)).toList());
+
+    assertThat(replies.await(2, TimeUnit.SECONDS)).isTrue();
+    assertThat(replied)
+        .containsExactlyElementsOf(IntStream.range(0, 200).mapToObj(i -> "order-" + i).toList());
+    assertThat(nestedReplies).hasValue(0);
+  }
+
+  @Test
+  void shouldEnqueueEventsOnlyOnceTheTransactionCommits() throws InterruptedException {
+    final var handled = new CountDownLatch(1);
+    eventBus = bus(1, LocalEventHandler.of(StockReservedEvent.class, event -> handled.countDown()));
+    TransactionSynchronizationManager.initSynchronization();
+
+    eventBus.publish(new StockReservedEvent("order-1", true));
+
+    assertThat(handled.await(100, TimeUnit.MILLISECONDS)).isFalse();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertThat(handled.await(1, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldDropEventsOfARolledBackTransaction() throws InterruptedException {
+    final var handled = new CountDownLatch(1);
+    eventBus = bus(1, LocalEventHandler.of(StockReservedEvent.class, event -> handled.countDown()));
+    TransactionSynchronizationManager.initSynchronization();
+
+    eventBus.publish(new StockReservedEvent("order-1", true));
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    assertThat(handled.await(200, TimeUnit.MILLISECONDS)).isFalse();
+    assertThat(eventBus.pending()).isZero();
+  }
+
+  @Test
+  void shouldFailAtStartupWhenARequiredHandlerIsMissing() {
+    final var bus =
+        bus(
+            1,
+            List.of("ReserveStockEvent", "ProcessPaymentEvent"),
+            LocalEventHandler.of(ReserveStockEvent.class, event -> {}));
+
+    assertThatThrownBy(bus::afterSingletonsInstantiated)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining(ProcessPaymentEvent.class.getSimpleName());
+  }
+
+  private InProcessEventBus bus(final int consumers, final LocalEventHandler<?>... handlers) {
+    final var bus = bus(consumers, List.of(), handlers);
+    bus.afterSingletonsInstantiated();
+
+    return bus;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static InProcessEventBus bus(
+      final int consumers,
+      final List<String> requiredEvents,
+      final LocalEventHandler<?>... handlers) {
+    final ObjectProvider<LocalEventHandler<?>> provider = mock(ObjectProvider.class);
+    when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(handlers));
+
+    return new InProcessEventBus(consumers, 8, 16, requiredEvents, provider);
+  }
+}
@@ -0,0 +1,104 @@
+package com.api.order.infra.gateway.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.domain.valueobject.PaymentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class OrderCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final OrderCache orderCache = new OrderCache(100, Duration.ofMinutes(1), meterRegistry);
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  void shouldReadThroughAndServeSubsequentReadsFromCache() {
+    orderCache.get("order-1", this::load);
+    final var cached = orderCache.get("order-1", this::load);
+
+    assertThat(cached).isPresent();
+    assertThat(loads).hasValue(1);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldBypassCacheInsideWritableTransaction() {
+    orderCache.get("order-1", this::load);
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+
+    orderCache.get("order-1", this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void shouldPopulateOnlyAfterCommitAndEvictAgainAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    orderCache.putAfterCommit(List.of(order()));
+    orderCache.evict("order-1");
+    assertThat(orderCache.get("order-1", id -> Optional.empty())).isEmpty();
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+
+    assertThat(orderCache.get("order-1", id -> Optional.empty())).isEmpty();
+  }
+
+  @Test
+  void shouldNotCacheASnapshotLoadedBeforeAConcurrentInvalidation() {
+    final var stale =
+        orderCache.get(
+            "order-1",
+            id -> {
+              final var loaded = load(id);
+              orderCache.evict(id);
+              return loaded;
+            });
+
+    assertThat(stale).isPresent();
+    orderCache.get("order-1", this::load);
+    assertThat(loads).hasValue(2);
+  }
+
+  private Optional<Order> load(final String id) {
+    loads.incrementAndGet();
+    return Optional.of(order());
+  }
+
+  private static Order order() {
+    return new Order(
+        "order-1",
+        "BOLA-123-ABC",
+        1,
+        "12345678901",
+        OrderStatus.OPEN,
+        new PaymentDetails(1, PaymentMethod.CREDIT_CARD, "1234567890123456", PaymentStatus.PENDING),
+        BigDecimal.TEN,
+        false,
+        0L);
+  }
+}
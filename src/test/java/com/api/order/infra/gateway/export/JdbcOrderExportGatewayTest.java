@@ -0,0 +1,91 @@
+package com.api.order.infra.gateway.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.api.order.config.ClockConfig;
+import com.api.order.core.domain.Order;
+import com.api.order.core.domain.PaymentDetails;
+import com.api.order.core.domain.valueobject.OrderStatus;
+import com.api.order.core.domain.valueobject.PaymentMethod;
+import com.api.order.core.dto.OrderExportFilter;
+import com.api.order.infra.gateway.OrderGatewayImpl;
+import com.api.order.infra.gateway.cache.OrderCache;
+import com.api.order.infra.gateway.id.UuidV7OrderIdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(
+    properties = "spring.jpa.properties.hibernate.connection.provider_disables_autocommit=false")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({
+  JdbcOrderExportGateway.class,
+  OrderGatewayImpl.class,
+  OrderCache.class,
+  UuidV7OrderIdGenerator.class,
+  ClockConfig.class,
+  SimpleMeterRegistry.class
+})
+class JdbcOrderExportGatewayTest {
+
+  @Autowired private JdbcOrderExportGateway exportGateway;
+  @Autowired private OrderGatewayImpl orderGateway;
+  @Autowired private TestEntityManager entityManager;
+  @Autowired private ObjectMapper objectMapper;
+
+  @Test
+  void shouldStreamMatchingOrdersAsNdjsonInIdOrder() throws Exception {
+    final var first = orderGateway.save(newOrder());
+    final var closed = orderGateway.save(newOrder());
+    final var last = orderGateway.save(newOrder());
+    entityManager.flush();
+    final var current = orderGateway.findById(closed.getId()).orElseThrow();
+    orderGateway.transition(current, current.changeOrderStatus(OrderStatus.CLOSED_WITH_SUCCESS));
+    entityManager.flush();
+
+    final var output = new ByteArrayOutputStream();
+    final var exported =
+        exportGateway.export(OrderExportFilter.builder().status(OrderStatus.OPEN).build(), output);
+
+    final var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(exported).isEqualTo(2);
+    assertThat(lines).hasSize(2);
+    assertThat(objectMapper.readTree(lines[0]).get("id").asText()).isEqualTo(first.getId());
+    assertThat(objectMapper.readTree(lines[1]).get("id").asText()).isEqualTo(last.getId());
+    assertThat(objectMapper.readTree(lines[1]).get("paymentStatus").asText()).isEqualTo("PENDING");
+  }
+
+  @Test
+  void shouldFilterByCreationDateRange() {
+    orderGateway.save(newOrder());
+    entityManager.flush();
+
+    final var output = new ByteArrayOutputStream();
+    final var exported =
+        exportGateway.export(
+            OrderExportFilter.builder().createdTo(Instant.parse("2000-01-01T00:00:00Z")).build(),
+            output);
+
+    assertThat(exported).isZero();
+    assertThat(output.size()).isZero();
+  }
+
+  private static Order newOrder() {
+    return Order.createOrder(
+        "BOLA-123-ABC",
+        2,
+        "12345678901",
+        PaymentDetails.createPaymentDetails(PaymentMethod.CREDIT_CARD, "1234567890123456"),
+        BigDecimal.TEN);
+  }
+}
@@ -0,0 +1,32 @@
+package com.api.order.infra.gateway.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeOrderIdGeneratorTest {
+
+  private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneOffset.UTC);
+
+  @Test
+  void shouldGenerateFixedWidthIncreasingIds() {
+    final var generator = new SnowflakeOrderIdGenerator(clock, 7);
+
+    final var ids = IntStream.range(0, 10_000).mapToObj(i -> generator.nextId()).toList();
+
+    assertThat(ids).doesNotHaveDuplicates().isSorted().allMatch(id -> id.length() == 19);
+    assertThat((Long.parseLong(ids.getFirst()) >>> 12) & 1023).isEqualTo(7);
+  }
+
+  @Test
+  void shouldRejectNodeIdOutOfRange() {
+    assertThatThrownBy(() -> new SnowflakeOrderIdGenerator(clock, 1024))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Node id=[1024] must be between 0 and 1023");
+  }
+}
@@ -0,0 +1,34 @@
+package com.api.order.infra.gateway.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class UuidV7OrderIdGeneratorTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final UuidV7OrderIdGenerator generator =
+      new UuidV7OrderIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @Test
+  void shouldGenerateVersion7UuidCarryingTheCurrentTimestamp() {
+    final var id = UUID.fromString(generator.nextId());
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+  }
+
+  @Test
+  void shouldGenerateStrictlyIncreasingIdsWithinTheSameMillisecond() {
+    final var ids = IntStream.range(0, 10_000).mapToObj(i -> generator.nextId()).toList();
+
+    assertThat(ids).doesNotHaveDuplicates().isSorted();
+  }
+}
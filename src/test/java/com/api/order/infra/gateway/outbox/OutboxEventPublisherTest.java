@@ -0,0 +1,137 @@
+package com.api.order.infra.gateway.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.api.order.event.ProcessPaymentEvent;
+import com.api.order.event.ReserveStockEvent;
+import com.api.order.infra.gateway.exception.GatewayException;
+import com.api.order.infra.persistence.entity.OutboxEventEntity;
+import com.api.order.infra.persistence.repository.OutboxEventRepository;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class OutboxEventPublisherTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+  private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final OutboxConfirmations confirmations = new OutboxConfirmations(Duration.ofSeconds(1));
+  private final OutboxEventPublisher outboxEventPublisher =
+      new OutboxEventPublisher(
+          outboxEventRepository, rabbitTemplate, Clock.fixed(NOW, ZoneOffset.UTC), confirmations);
+
+  @BeforeEach
+  void setUp() {
+    when(rabbitTemplate.getMessageConverter()).thenReturn(new Jackson2JsonMessageConverter());
+    when(outboxEventRepository.save(any()))
+        .thenAnswer(
+            invocation -> {
+              final OutboxEventEntity entity = invocation.getArgument(0);
+              entity.setId(7L);
+              return entity;
+            });
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void shouldCompletePublishAsyncOnlyOnceTheRelayConfirmsTheRow() {
+    final var published =
+        outboxEventPublisher.publishAsync(new ReserveStockEvent("order-123", "BOLA-123-ABC", 10));
+
+    assertThat(published).isNotDone();
+
+    confirmations.confirmed(List.of(7L));
+
+    assertThat(published).isCompleted();
+  }
+
+  @Test
+  void shouldFailPublishAsyncWhenTheTransactionRollsBack() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    final var published =
+        outboxEventPublisher.publishAsync(new ReserveStockEvent("order-123", "BOLA-123-ABC", 10));
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    assertThat(published)
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(GatewayException.class);
+    assertThat(confirmations.pending()).isZero();
+  }
+
+  @Test
+  void shouldWriteConvertedEventToOutbox() {
+    final var event = new ReserveStockEvent("order-123", "BOLA-123-ABC", 10);
+
+    outboxEventPublisher.publish(event);
+
+    final ArgumentCaptor<OutboxEventEntity> entityCaptor =
+        ArgumentCaptor.forClass(OutboxEventEntity.class);
+    verify(outboxEventRepository).save(entityCaptor.capture());
+
+    final var entity = entityCaptor.getValue();
+    assertThat(entity.getRoutingKey()).isEqualTo("reserve-stock");
+    assertThat(entity.getTypeId()).isEqualTo(ReserveStockEvent.class.getName());
+    assertThat(entity.getContentType()).isEqualTo("application/json");
+    assertThat(new String(entity.getPayload(), StandardCharsets.UTF_8))
+        .contains("\"orderId\":\"order-123\"");
+    assertThat(entity.getAttempts()).isZero();
+    assertThat(entity.getCreatedAt()).isEqualTo(NOW);
+  }
+
+  @Test
+  void shouldWriteBatchOfEventsToOutbox() {
+    final var events =
+        List.of(
+            new ReserveStockEvent("order-123", "BOLA-123-ABC", 10),
+            new ProcessPaymentEvent(
+                "order-123", BigDecimal.valueOf(100.00), "1234567890123456", "CREDIT_CARD"));
+
+    outboxEventPublisher.publishAll(events);
+
+    final ArgumentCaptor<List<OutboxEventEntity>> entitiesCaptor =
+        ArgumentCaptor.forClass(List.class);
+    verify(outboxEventRepository).saveAll(entitiesCaptor.capture());
+
+    assertThat(entitiesCaptor.getValue())
+        .extracting(OutboxEventEntity::getRoutingKey)
+        .containsExactly("reserve-stock", "process-payment");
+  }
+
+  @Test
+  void shouldThrowGatewayExceptionWhenOutboxWriteFails() {
+    final var event = new ReserveStockEvent("order-123", "BOLA-123-ABC", 10);
+
+    doThrow(new RuntimeException("DB error")).when(outboxEventRepository).save(any());
+
+    assertThatThrownBy(() -> outboxEventPublisher.publish(event))
+        .isInstanceOf(GatewayException.class)
+        .hasMessage("Failed to publish event: " + event);
+  }
+}
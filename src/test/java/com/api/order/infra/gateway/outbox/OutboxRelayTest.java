@@ -0,0 +1,127 @@
+package com.api.order.infra.gateway.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.api.order.config.RabbitMQConfig;
+import com.api.order.infra.persistence.entity.OutboxEventEntity;
+import com.api.order.infra.persistence.repository.OutboxEventRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class OutboxRelayTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+  private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final PlatformTransactionManager transactionManager =
+      mock(PlatformTransactionManager.class);
+  private final OutboxConfirmations confirmations = new OutboxConfirmations(Duration.ofSeconds(1));
+  private final OutboxRelay outboxRelay =
+      new OutboxRelay(
+          outboxEventRepository,
+          rabbitTemplate,
+          transactionManager,
+          Clock.fixed(NOW, ZoneOffset.UTC),
+          confirmations,
+          10,
+          3,
+          Duration.ofMillis(200));
+
+  @Test
+  void shouldDeleteEventsConfirmedByTheBroker() {
+    when(outboxEventRepository.findRelayable(eq(NOW), eq(3), any())).thenReturn(List.of(event(1L)));
+    doAnswer(
+            invocation -> {
+              invocation
+                  .<CorrelationData>getArgument(3)
+                  .getFuture()
+                  .complete(new CorrelationData.Confirm(true, null));
+              return null;
+            })
+        .when(rabbitTemplate)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    final var confirmed = confirmations.register(1L);
+
+    outboxRelay.relay();
+
+    assertThat(confirmed).isCompleted();
+    final ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+    verify(rabbitTemplate)
+        .send(
+            eq(RabbitMQConfig.EXCHANGE_NAME),
+            eq("reserve-stock"),
+            messageCaptor.capture(),
+            any(CorrelationData.class));
+    assertThat(messageCaptor.getValue().getMessageProperties().getMessageId())
+        .isEqualTo("outbox-1");
+    assertThat(messageCaptor.getValue().getMessageProperties().getContentType())
+        .isEqualTo("application/json");
+
+    final var inOrder = inOrder(outboxEventRepository, rabbitTemplate);
+    inOrder.verify(outboxEventRepository).claim(List.of(1L), NOW.plusMillis(400));
+    inOrder.verify(rabbitTemplate).send(anyString(), anyString(), any(), any());
+    inOrder.verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+    verify(outboxEventRepository, never()).incrementAttempts(any());
+  }
+
+  @Test
+  void shouldKeepEventsNackedOrUnconfirmedByTheBroker() {
+    when(outboxEventRepository.findRelayable(eq(NOW), eq(3), any()))
+        .thenReturn(List.of(event(1L), event(2L)));
+    doAnswer(
+            invocation -> {
+              final CorrelationData correlationData = invocation.getArgument(3);
+              if ("1".equals(correlationData.getId())) {
+                correlationData.getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+              }
+              return null;
+            })
+        .when(rabbitTemplate)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+    outboxRelay.relay();
+
+    verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    verify(outboxEventRepository).incrementAttempts(List.of(1L, 2L));
+  }
+
+  @Test
+  void shouldStopRelayWhenBrokerIsUnavailable() {
+    when(outboxEventRepository.findRelayable(eq(NOW), eq(3), any())).thenReturn(List.of(event(1L)));
+    doThrow(new AmqpConnectException(new RuntimeException("connection refused")))
+        .when(rabbitTemplate)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+    outboxRelay.relay();
+
+    verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    verify(outboxEventRepository, never()).incrementAttempts(any());
+    verify(outboxEventRepository).release(List.of(1L));
+  }
+
+  private static OutboxEventEntity event(final Long id) {
+    return OutboxEventEntity.builder()
+        .id(id)
+        .routingKey("reserve-stock")
+        .typeId("com.api.order.event.ReserveStockEvent")
+        .contentType("application/json")
+        .payload("{\"orderId\":\"order-123\"}".getBytes())
+        .createdAt(Instant.parse("2025-01-01T10:00:00Z"))
+        .build();
+  }
+}
@@ -0,0 +1,138 @@
+package com.api.order.infra.gateway.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.api.order.config.RabbitMQConfig;
+import com.api.order.core.usecase.exception.OrderNotFoundException;
+import com.api.order.infra.gateway.exception.GatewayException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+class DelayedRetryRecovererTest {
+
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final DelayedRetryRecoverer recoverer =
+      new DelayedRetryRecoverer(
+          List.of(Duration.ofSeconds(1), Duration.ofSeconds(10)),
+          4,
+          0.2,
+          Duration.ofMillis(100),
+          rabbitTemplate);
+
+  @BeforeEach
+  void confirmEveryPublish() {
+    confirmWith(new CorrelationData.Confirm(true, null));
+  }
+
+  @Test
+  void shouldSendTransientFailuresToTheNextDelayTierWithJitter() {
+    final var message = message(1);
+
+    recoverer.recover(message, failure(new DataAccessResourceFailureException("down")));
+
+    final var retry = sent(RabbitMQConfig.RETRY_EXCHANGE, RabbitMQConfig.STOCK_RESERVED_QUEUE);
+    final var properties = retry.getMessageProperties();
+    assertThat(properties.<Integer>getHeader(DelayedRetryRecoverer.ATTEMPT_HEADER)).isEqualTo(2);
+    assertThat(properties.<String>getHeader(DelayedRetryRecoverer.TIER_HEADER)).isEqualTo("1");
+    assertThat(Long.parseLong(properties.getExpiration())).isBetween(8_000L, 12_000L);
+    assertThat(retry.getBody()).isEqualTo(message.getBody());
+  }
+
+  @Test
+  void shouldParkMessagesOnceAttemptsAreExhausted() {
+    recoverer.recover(message(3), failure(new DataAccessResourceFailureException("down")));
+
+    final var parked = sent("", RabbitMQConfig.PARKING_QUEUE);
+    assertThat(parked.getMessageProperties().getExpiration()).isNull();
+    assertThat(
+            parked.getMessageProperties().<String>getHeader(DelayedRetryRecoverer.EXCEPTION_HEADER))
+        .isEqualTo("down");
+    assertThat(
+            parked
+                .getMessageProperties()
+                .<String>getHeader(DelayedRetryRecoverer.ORIGINAL_QUEUE_HEADER))
+        .isEqualTo(RabbitMQConfig.STOCK_RESERVED_QUEUE);
+  }
+
+  @Test
+  void shouldParkBusinessFailuresWithoutRetrying() {
+    recoverer.recover(message(null), failure(new OrderNotFoundException("order-1")));
+
+    sent("", RabbitMQConfig.PARKING_QUEUE);
+  }
+
+  @Test
+  void shouldFailWhenTheBrokerNacksTheRepublish() {
+    confirmWith(new CorrelationData.Confirm(false, "nack"));
+
+    assertThatThrownBy(
+            () ->
+                recoverer.recover(
+                    message(1), failure(new DataAccessResourceFailureException("down"))))
+        .isInstanceOf(GatewayException.class)
+        .hasMessageContaining("nack");
+  }
+
+  @Test
+  void shouldFailWhenTheRepublishIsNotConfirmedInTime() {
+    doNothing()
+        .when(rabbitTemplate)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+    assertThatThrownBy(
+            () ->
+                recoverer.recover(
+                    message(1), failure(new DataAccessResourceFailureException("down"))))
+        .isInstanceOf(GatewayException.class);
+  }
+
+  private void confirmWith(final CorrelationData.Confirm confirm) {
+    doAnswer(
+            invocation -> {
+              invocation.<CorrelationData>getArgument(3).getFuture().complete(confirm);
+              return null;
+            })
+        .when(rabbitTemplate)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+  }
+
+  private Message sent(final String exchange, final String routingKey) {
+    final ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+    verify(rabbitTemplate)
+        .send(eq(exchange), eq(routingKey), captor.capture(), any(CorrelationData.class));
+
+    return captor.getValue();
+  }
+
+  private static ListenerExecutionFailedException failure(final Throwable cause) {
+    return new ListenerExecutionFailedException("Listener threw exception", cause);
+  }
+
+  private static Message message(final Integer attempts) {
+    final var properties = new MessageProperties();
+    properties.setConsumerQueue(RabbitMQConfig.STOCK_RESERVED_QUEUE);
+    properties.setReceivedRoutingKey(RabbitMQConfig.STOCK_RESERVED_QUEUE);
+    properties.setExpiration("1000");
+    if (attempts != null) {
+      properties.setHeader(DelayedRetryRecoverer.ATTEMPT_HEADER, attempts);
+    }
+
+    return new Message(
+        "{\"orderId\":\"order-1\",\"success\":true}".getBytes(StandardCharsets.UTF_8), properties);
+  }
+}
@@ -3,6 +3,7 @@ package com.api.order.infra.gateway.queue;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 import com.api.order.config.RabbitMQConfig;
@@ -12,14 +13,25 @@ import com.api.order.event.ReleaseStockEvent;
 import com.api.order.event.ReserveStockEvent;
 import com.api.order.infra.gateway.exception.GatewayException;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
 class RabbitMQGatewayTest {
 
   private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
-  private final RabbitMQGateway rabbitMQGateway = new RabbitMQGateway(rabbitTemplate);
+  private final RabbitMQGateway rabbitMQGateway =
+      new RabbitMQGateway(2, 1, Duration.ofMillis(10), Duration.ofMillis(200), rabbitTemplate);
 
   @Test
   void shouldPublishReserveStockEventSuccessfully() {
@@ -118,6 +130,40 @@ class RabbitMQGatewayTest {
     assertThat(eventCaptor.getValue().amount()).isEqualTo(BigDecimal.valueOf(100.00));
   }
 
+  @Test
+  void shouldPublishBatchOfEventsOnSingleChannel() {
+    final var reserveStockEvent = new ReserveStockEvent("order-123", "BOLA-123-ABC", 10);
+    final var processPaymentEvent =
+        new ProcessPaymentEvent(
+            "order-123", BigDecimal.valueOf(100.00), "1234567890123456", "CREDIT_CARD");
+
+    when(rabbitTemplate.invoke(any()))
+        .thenAnswer(
+            invocation ->
+                invocation
+                    .<RabbitOperations.OperationsCallback<?>>getArgument(0)
+                    .doInRabbit(rabbitTemplate));
+
+    rabbitMQGateway.publishAll(List.of(reserveStockEvent, processPaymentEvent));
+
+    verify(rabbitTemplate).invoke(any());
+    verify(rabbitTemplate)
+        .convertAndSend(RabbitMQConfig.EXCHANGE_NAME, "reserve-stock", reserveStockEvent);
+    verify(rabbitTemplate)
+        .convertAndSend(RabbitMQConfig.EXCHANGE_NAME, "process-payment", processPaymentEvent);
+  }
+
+  @Test
+  void shouldThrowGatewayExceptionWhenBatchPublishFails() {
+    final var event = new ReserveStockEvent("order-123", "BOLA-123-ABC", 10);
+
+    when(rabbitTemplate.invoke(any())).thenThrow(new RuntimeException("AMQP error"));
+
+    assertThatThrownBy(() -> rabbitMQGateway.publishAll(List.of(event)))
+        .isInstanceOf(GatewayException.class)
+        .hasMessage("Failed to publish batch of events: 1");
+  }
+
   @Test
   void shouldThrowGatewayExceptionWhenPublishFails() {
     final var event = new ReserveStockEvent("order-123", "BOLA-123-ABC", 10);
@@ -134,4 +180,82 @@ class RabbitMQGatewayTest {
     verify(rabbitTemplate)
         .convertAndSend(eq(RabbitMQConfig.EXCHANGE_NAME), eq("reserve-stock"), eq(event));
   }
+
+  @Test
+  void shouldCompletePublishAsyncWhenTheBrokerConfirms() {
+    final var event = new ReserveStockEvent("order-123", "BOLA-123-ABC", 10);
+
+    doAnswer(confirming(true))
+        .when(rabbitTemplate)
+        .convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+    assertThat(rabbitMQGateway.publishAsync(event)).succeedsWithin(Duration.ofSeconds(1));
+    verify(rabbitTemplate)
+        .convertAndSend(
+            eq(RabbitMQConfig.EXCHANGE_NAME),
+            eq("reserve-stock"),
+            eq(event),
+            any(CorrelationData.class));
+  }
+
+  @Test
+  void shouldFailPublishAsyncForAnUnknownEventWithoutThrowing() {
+    assertThat(rabbitMQGateway.publishAsync("not-an-event"))
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(IllegalArgumentException.class);
+    verifyNoInteractions(rabbitTemplate);
+  }
+
+  @Test
+  void shouldRetryNackedEventAndFailOnceRetriesAreExhausted() {
+    final var event = new ReserveStockEvent("order-123", "BOLA-123-ABC", 10);
+
+    doAnswer(confirming(false))
+        .when(rabbitTemplate)
+        .convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+    assertThat(rabbitMQGateway.publishAsync(event))
+        .failsWithin(Duration.ofSeconds(1))
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(GatewayException.class);
+    verify(rabbitTemplate, times(2))
+        .convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+  }
+
+  @Test
+  void shouldHoldBackPublishesWhileTheInFlightWindowIsFull() throws Exception {
+    final var gateway =
+        new RabbitMQGateway(1, 0, Duration.ofMillis(10), Duration.ofSeconds(5), rabbitTemplate);
+    final var event = new ReserveStockEvent("order-123", "BOLA-123-ABC", 10);
+    final var pending = new LinkedBlockingQueue<CorrelationData>();
+
+    doAnswer(invocation -> pending.add(invocation.getArgument(3)))
+        .when(rabbitTemplate)
+        .convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+    final var first = gateway.publishAsync(event);
+    final var second =
+        CompletableFuture.supplyAsync(() -> gateway.publishAsync(event))
+            .thenCompose(Function.identity());
+    final var firstConfirm = pending.take();
+
+    assertThat(pending.poll(100, TimeUnit.MILLISECONDS)).isNull();
+
+    firstConfirm.getFuture().complete(new CorrelationData.Confirm(true, null));
+    pending.poll(1, TimeUnit.SECONDS).getFuture().complete(new CorrelationData.Confirm(true, null));
+
+    assertThat(first).isCompleted();
+    assertThat(second).succeedsWithin(Duration.ofSeconds(1));
+  }
+
+  private static Answer<Void> confirming(final boolean ack) {
+    return invocation -> {
+      invocation
+          .<CorrelationData>getArgument(3)
+          .getFuture()
+          .complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+      return null;
+    };
+  }
 }
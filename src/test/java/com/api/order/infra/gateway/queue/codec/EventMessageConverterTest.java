@@ -0,0 +1,87 @@
+package com.api.order.infra.gateway.queue.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.api.order.event.OrderReceivedEvent;
+import com.api.order.event.PaymentProcessedEvent;
+import com.api.order.event.ProcessPaymentEvent;
+import com.api.order.event.RefundPaymentEvent;
+import com.api.order.event.ReleaseStockEvent;
+import com.api.order.event.ReserveStockEvent;
+import com.api.order.event.StockReservedEvent;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.core.ParameterizedTypeReference;
+
+class EventMessageConverterTest {
+
+  private final EventMessageConverter binaryConverter =
+      new EventMessageConverter(new Jackson2JsonMessageConverter(), true);
+  private final EventMessageConverter jsonConverter =
+      new EventMessageConverter(new Jackson2JsonMessageConverter(), false);
+
+  @Test
+  void shouldRoundTripEveryEventThroughTheBinaryCodec() {
+    final var events =
+        List.of(
+            new ReserveStockEvent("0192f0c4-7b1e-7c3a-9d2f-5a6b7c8d9e0f", "BOLA-123-ABC", 10),
+            new ReleaseStockEvent("order-1", "CAMISA-ÇÃO-€", -3),
+            new ProcessPaymentEvent(
+                "order-1", new BigDecimal("1234.56"), "1234567890123456", "CREDIT_CARD"),
+            new RefundPaymentEvent("order-1", null),
+            new StockReservedEvent("order-1", true),
+            new PaymentProcessedEvent("order-1", false),
+            new OrderReceivedEvent("BOLA-123-ABC", 2, "12345678901", "PIX", null));
+
+    for (final var event : events) {
+      final var message = binaryConverter.toMessage(event, new MessageProperties());
+
+      assertThat(message.getMessageProperties().getContentType())
+          .isEqualTo(EventMessageConverter.BINARY_CONTENT_TYPE);
+      assertThat(binaryConverter.fromMessage(message)).isEqualTo(event);
+    }
+  }
+
+  @Test
+  void shouldProduceSmallerPayloadsThanJson() {
+    final var event = new ReserveStockEvent("0192f0c4-7b1e-7c3a-9d2f-5a6b7c8d9e0f", "BOLA", 10);
+
+    final var binary = binaryConverter.toMessage(event, new MessageProperties());
+    final var json = jsonConverter.toMessage(event, new MessageProperties());
+
+    assertThat(binary.getBody()).hasSize(2 + 37 + 5 + 1);
+    assertThat(binary.getBody().length).isLessThan(json.getBody().length * 2 / 3);
+  }
+
+  @Test
+  void shouldKeepReadingJsonFromProducersThatHaveNotSwitched() {
+    final var event = new StockReservedEvent("order-1", true);
+    final var json = jsonConverter.toMessage(event, new MessageProperties());
+
+    assertThat(json.getMessageProperties().getContentType()).isEqualTo("application/json");
+    assertThat(
+            binaryConverter.fromMessage(
+                json, ParameterizedTypeReference.forType(StockReservedEvent.class)))
+        .isEqualTo(event);
+  }
+
+  @Test
+  void shouldRejectUnknownSchemaVersionsAndTruncatedBodies() {
+    final var properties = new MessageProperties();
+    properties.setContentType(EventMessageConverter.BINARY_CONTENT_TYPE);
+
+    assertThatThrownBy(
+            () -> binaryConverter.fromMessage(new Message(new byte[] {2, 5}, properties)))
+        .isInstanceOf(MessageConversionException.class)
+        .hasRootCauseMessage("Unsupported schema version: 2");
+    assertThatThrownBy(
+            () -> binaryConverter.fromMessage(new Message(new byte[] {1, 5, 9, 'o'}, properties)))
+        .isInstanceOf(MessageConversionException.class);
+  }
+}